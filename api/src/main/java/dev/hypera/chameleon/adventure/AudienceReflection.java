@@ -27,10 +27,11 @@ import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
 import dev.hypera.chameleon.adventure.mapper.EnumMapper;
 import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
-import java.util.Objects;
+import dev.hypera.chameleon.util.internal.ReflectionUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.chat.ChatType;
 import net.kyori.adventure.chat.SignedMessage;
@@ -48,34 +49,21 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Helper class for {@link dev.hypera.chameleon.adventure.ReflectedAudience}.
+ *
+ * <p>Platform methods are resolved together on first use into constant method handles that accept
+ * and return {@link Object}s, which are then invoked exactly. {@link #load()} only resolves the
+ * platform {@code Audience} class.</p>
  */
 @Internal
 @SuppressWarnings("deprecation")
 public final class AudienceReflection {
 
     private final @NotNull AdventureMapper adventure;
-    private final @NotNull AtomicBoolean loaded = new AtomicBoolean(false);
-    private @Nullable EnumMapper<net.kyori.adventure.audience.MessageType> messageTypeMapper;
-    private @Nullable Method audienceSendMessageMethod;
-    private @Nullable Method audienceSendMessageBoundMethod;
-    private @Nullable Method audienceDeleteMessageMethod;
-    private @Nullable Method audienceSendMessageSourceTypeMethod;
-    private @Nullable Method audienceSendActionBarMethod;
-    private @Nullable Method audienceClearTitleMethod;
-    private @Nullable Method audienceResetTitleMethod;
-    private @Nullable Method audienceShowBossBarMethod;
-    private @Nullable Method audienceHideBossBarMethod;
-    private @Nullable Method audiencePlaySoundMethod;
-    private @Nullable Method audiencePlaySoundPositionMethod;
-    private @Nullable Method audiencePlaySoundEmitterMethod;
-    private @Nullable Method audienceStopSoundMethod;
-    private @Nullable Method audienceOpenBookMethod;
-    private @Nullable Method audienceSendPlayerListHeader;
-    private @Nullable Method audienceSendPlayerListFooter;
-    private @Nullable Method audienceSendPlayerListHeaderAndFooter;
-    private @Nullable Method audienceSendTitlePart;
-    private @Nullable Method soundEmitterSelfMethod;
-    private @Nullable Method pointeredGetMethod;
+    private final @NotNull Lazy<EnumMapper<net.kyori.adventure.audience.MessageType>> messageTypeMapper = new Lazy<>(() ->
+        EnumMapper.createAndLoad(net.kyori.adventure.audience.MessageType.class,
+            Class.forName(AdventureMapper.ORIGINAL_PACKAGE.concat("audience.MessageType")))
+    );
+    private volatile boolean loaded = false;
 
     /**
      * Audience reflection constructor.
@@ -88,74 +76,17 @@ public final class AudienceReflection {
     }
 
     /**
-     * Load all classes and methods.
+     * Load the platform audience class.
+     *
+     * <p>All other classes and methods are resolved when they are first used, calls made before
+     * this method has been called are not rejected.</p>
      *
      * @throws ReflectiveOperationException if something goes wrong.
      */
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!isLoaded(), "AudienceReflection has already been loaded");
-
-        // Audience
-        Class<?> audienceClass = Class.forName(AdventureMapper.ORIGINAL_AUDIENCE_CLASS_NAME);
-        Class<?> bookClass = Class.forName(AdventureMapper.ORIGINAL_BOOK_CLASS_NAME);
-        Class<?> bossBarClass = Class.forName(AdventureMapper.ORIGINAL_BOSSBAR_CLASS_NAME);
-        Class<?> boundClass = Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_BOUND_CLASS_NAME);
-        Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
-        Class<?> identityClass = Class.forName(AdventureMapper.ORIGINAL_IDENTITY_CLASS_NAME);
-        Class<?> messageTypeClass = Class.forName(
-            AdventureMapper.ORIGINAL_PACKAGE.concat("audience.MessageType")
-        );
-        Class<?> signatureClass = Class.forName(AdventureMapper.ORIGINAL_SIGNED_MESSAGE_SIGNATURE_CLASS_NAME);
-        Class<?> soundClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_CLASS_NAME);
-        Class<?> soundEmitterClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_EMITTER_CLASS_NAME);
-        Class<?> soundStopClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_STOP_CLASS_NAME);
-        Class<?> titlePartClass = Class.forName(AdventureMapper.ORIGINAL_TITLE_PART_CLASS_NAME);
-
-        this.messageTypeMapper = EnumMapper.createAndLoad(net.kyori.adventure.audience.MessageType.class, messageTypeClass);
-        this.audienceSendMessageMethod = audienceClass.getMethod("sendMessage", componentClass);
-        this.audienceSendMessageBoundMethod = audienceClass.getMethod(
-            "sendMessage", componentClass, boundClass
-        );
-        this.audienceDeleteMessageMethod = audienceClass.getMethod("deleteMessage", signatureClass);
-        this.audienceSendMessageSourceTypeMethod = audienceClass.getMethod(
-            "sendMessage", identityClass, componentClass, messageTypeClass
-        );
-        this.audienceSendActionBarMethod = audienceClass.getMethod("sendActionBar", componentClass);
-        this.audienceClearTitleMethod = audienceClass.getMethod("clearTitle");
-        this.audienceResetTitleMethod = audienceClass.getMethod("resetTitle");
-        this.audienceShowBossBarMethod = audienceClass.getMethod("showBossBar", bossBarClass);
-        this.audienceHideBossBarMethod = audienceClass.getMethod("hideBossBar", bossBarClass);
-        this.audiencePlaySoundMethod = audienceClass.getMethod("playSound", soundClass);
-        this.audiencePlaySoundPositionMethod = audienceClass.getMethod(
-            "playSound", soundClass, double.class, double.class, double.class
-        );
-        this.audiencePlaySoundEmitterMethod = audienceClass.getMethod(
-            "playSound", soundClass, soundEmitterClass
-        );
-        this.audienceStopSoundMethod = audienceClass.getMethod("stopSound", soundStopClass);
-        this.audienceOpenBookMethod = audienceClass.getMethod("openBook", bookClass);
-        this.audienceSendPlayerListHeader = audienceClass.getMethod(
-            "sendPlayerListHeader", componentClass
-        );
-        this.audienceSendPlayerListFooter = audienceClass.getMethod(
-            "sendPlayerListFooter", componentClass
-        );
-        this.audienceSendPlayerListHeaderAndFooter = audienceClass.getMethod(
-            "sendPlayerListHeaderAndFooter", componentClass, componentClass
-        );
-        this.audienceSendTitlePart = audienceClass.getMethod(
-            "sendTitlePart", titlePartClass, Object.class
-        );
-
-        // SoundEmitter
-        this.soundEmitterSelfMethod = soundEmitterClass.getMethod("self");
-
-        // Pointered
-        Class<?> pointeredClass = Class.forName(AdventureMapper.ORIGINAL_POINTERED_CLASS_NAME);
-        Class<?> pointerClass = Class.forName(AdventureMapper.ORIGINAL_POINTER_CLASS_NAME);
-        this.pointeredGetMethod = pointeredClass.getMethod("get", pointerClass);
-
-        this.loaded.set(true);
+        Class.forName(AdventureMapper.ORIGINAL_AUDIENCE_CLASS_NAME);
+        this.loaded = true;
     }
 
     /**
@@ -164,7 +95,7 @@ public final class AudienceReflection {
      * @return loaded.
      */
     public boolean isLoaded() {
-        return this.loaded.get();
+        return this.loaded;
     }
 
     /**
@@ -174,15 +105,11 @@ public final class AudienceReflection {
      * @param component Component to be mapped and sent to the audience.
      */
     public void sendMessage(@NotNull Object audience, @NotNull Component component) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceSendMessageMethod).invoke(audience,
-                this.adventure.getComponentMapper().map(component)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.SEND_MESSAGE.invokeExact(audience, this.adventure.getComponentMapper().map(component));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendMessageMethod), audience, ex
+                "sendMessage(Component)", audience, ex
             );
         }
     }
@@ -195,16 +122,14 @@ public final class AudienceReflection {
      * @param boundChatType Bound to be mapped and send to the audience alongside the component.
      */
     public void sendMessage(@NotNull Object audience, @NotNull Component component, @NotNull ChatType.Bound boundChatType) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceSendMessageBoundMethod).invoke(audience,
+            Handles.SEND_MESSAGE_BOUND.invokeExact(audience,
                 this.adventure.getComponentMapper().map(component),
                 this.adventure.getBoundMapper().map(boundChatType)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendMessageBoundMethod), audience, ex
+                "sendMessage(Component,ChatType.Bound)", audience, ex
             );
         }
     }
@@ -222,17 +147,15 @@ public final class AudienceReflection {
      */
     @Deprecated
     public void sendMessage(@NotNull Object audience, @NotNull Identity source, @NotNull Component component, @NotNull net.kyori.adventure.audience.MessageType messageType) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceSendMessageSourceTypeMethod).invoke(audience,
+            Handles.SEND_MESSAGE_SOURCE_TYPE.invokeExact(audience,
                 this.adventure.getIdentityMapper().map(source),
                 this.adventure.getComponentMapper().map(component),
-                Objects.requireNonNull(this.messageTypeMapper).map(messageType)
+                this.messageTypeMapper.get().map(messageType)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendMessageSourceTypeMethod), audience, ex
+                "sendMessage(Identity,Component,MessageType)", audience, ex
             );
         }
     }
@@ -244,15 +167,11 @@ public final class AudienceReflection {
      * @param component Component to be mapped and sent to the audience.
      */
     public void sendActionBar(@NotNull Object audience, @NotNull Component component) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceSendActionBarMethod).invoke(audience,
-                this.adventure.getComponentMapper().map(component)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.SEND_ACTION_BAR.invokeExact(audience, this.adventure.getComponentMapper().map(component));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendActionBarMethod), audience, ex
+                "sendActionBar(Component)", audience, ex
             );
         }
     }
@@ -264,15 +183,11 @@ public final class AudienceReflection {
      * @param signature Signature to be mapped and deleted for the audience.
      */
     public void deleteMessage(@NotNull Object audience, @NotNull SignedMessage.Signature signature) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceDeleteMessageMethod).invoke(audience,
-                this.adventure.getSignatureMapper().map(signature)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.DELETE_MESSAGE.invokeExact(audience, this.adventure.getSignatureMapper().map(signature));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceDeleteMessageMethod), audience, ex
+                "deleteMessage(SignedMessage.Signature)", audience, ex
             );
         }
     }
@@ -284,15 +199,11 @@ public final class AudienceReflection {
      * @param header   Component to be mapped and sent to the audience.
      */
     public void sendPlayerListHeader(@NotNull Object audience, @NotNull Component header) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceSendPlayerListHeader).invoke(audience,
-                this.adventure.getComponentMapper().map(header)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.SEND_PLAYER_LIST_HEADER.invokeExact(audience, this.adventure.getComponentMapper().map(header));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendPlayerListHeader), audience, ex
+                "sendPlayerListHeader(Component)", audience, ex
             );
         }
     }
@@ -304,15 +215,11 @@ public final class AudienceReflection {
      * @param footer   Component to be mapped and sent to the audience.
      */
     public void sendPlayerListFooter(@NotNull Object audience, @NotNull Component footer) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceSendPlayerListFooter).invoke(audience,
-                this.adventure.getComponentMapper().map(footer)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.SEND_PLAYER_LIST_FOOTER.invokeExact(audience, this.adventure.getComponentMapper().map(footer));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendPlayerListFooter), audience, ex
+                "sendPlayerListFooter(Component)", audience, ex
             );
         }
     }
@@ -326,16 +233,14 @@ public final class AudienceReflection {
      * @param footer   Footer Component to be mapped and sent to the audience.
      */
     public void sendPlayerListHeaderAndFooter(@NotNull Object audience, @NotNull Component header, @NotNull Component footer) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceSendPlayerListHeaderAndFooter).invoke(audience,
+            Handles.SEND_PLAYER_LIST_HEADER_AND_FOOTER.invokeExact(audience,
                 this.adventure.getComponentMapper().map(header),
                 this.adventure.getComponentMapper().map(footer)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendPlayerListHeaderAndFooter), audience, ex
+                "sendPlayerListHeaderAndFooter(Component,Component)", audience, ex
             );
         }
     }
@@ -352,7 +257,6 @@ public final class AudienceReflection {
      *                               Title.Times.
      */
     public <T> void sendTitlePart(@NotNull Object audience, @NotNull TitlePart<T> part, @NotNull T value) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
         Preconditions.checkArgument(
             value instanceof Component || value instanceof Title.Times,
             "unsupported TitlePart value type"
@@ -366,13 +270,10 @@ public final class AudienceReflection {
                 mappedValue = this.adventure.getTimesMapper().map((Title.Times) value);
             }
 
-            Objects.requireNonNull(this.audienceSendTitlePart).invoke(audience,
-                this.adventure.getTitlePartMapper().map(part),
-                mappedValue
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.SEND_TITLE_PART.invokeExact(audience, this.adventure.getTitlePartMapper().map(part), mappedValue);
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendTitlePart), audience, ex
+                "sendTitlePart(TitlePart,Object)", audience, ex
             );
         }
     }
@@ -383,13 +284,11 @@ public final class AudienceReflection {
      * @param audience Audience to invoke {@code clearTitle()} on.
      */
     public void clearTitle(@NotNull Object audience) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceClearTitleMethod).invoke(audience);
-        } catch (ReflectiveOperationException ex) {
+            Handles.CLEAR_TITLE.invokeExact(audience);
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceClearTitleMethod), audience, ex
+                "clearTitle()", audience, ex
             );
         }
     }
@@ -400,13 +299,11 @@ public final class AudienceReflection {
      * @param audience Audience to invoke {@code resetTitle()} on.
      */
     public void resetTitle(@NotNull Object audience) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceResetTitleMethod).invoke(audience);
-        } catch (ReflectiveOperationException ex) {
+            Handles.RESET_TITLE.invokeExact(audience);
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceResetTitleMethod), audience, ex
+                "resetTitle()", audience, ex
             );
         }
     }
@@ -418,15 +315,11 @@ public final class AudienceReflection {
      * @param bar      BossBar to be mapped and shown to the given audience.
      */
     public void showBossBar(@NotNull Object audience, @NotNull BossBar bar) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceShowBossBarMethod).invoke(audience,
-                this.adventure.getBossBarMapper().map(bar)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.SHOW_BOSS_BAR.invokeExact(audience, this.adventure.getBossBarMapper().map(bar));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceShowBossBarMethod), audience, ex
+                "showBossBar(BossBar)", audience, ex
             );
         }
     }
@@ -438,15 +331,11 @@ public final class AudienceReflection {
      * @param bar      BossBar to be mapped and hidden from the given audience.
      */
     public void hideBossBar(@NotNull Object audience, @NotNull BossBar bar) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceHideBossBarMethod).invoke(audience,
-                this.adventure.getBossBarMapper().map(bar)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.HIDE_BOSS_BAR.invokeExact(audience, this.adventure.getBossBarMapper().map(bar));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceHideBossBarMethod), audience, ex
+                "hideBossBar(BossBar)", audience, ex
             );
         }
     }
@@ -458,15 +347,11 @@ public final class AudienceReflection {
      * @param sound    Sound to be mapped and played to the given audience.
      */
     public void playSound(@NotNull Object audience, @NotNull Sound sound) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audiencePlaySoundMethod).invoke(audience,
-                this.adventure.getSoundMapper().map(sound)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.PLAY_SOUND.invokeExact(audience, this.adventure.getSoundMapper().map(sound));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audiencePlaySoundMethod), audience, ex
+                "playSound(Sound)", audience, ex
             );
         }
     }
@@ -481,15 +366,11 @@ public final class AudienceReflection {
      * @param z        Position Z coordinate.
      */
     public void playSound(@NotNull Object audience, @NotNull Sound sound, double x, double y, double z) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audiencePlaySoundPositionMethod).invoke(audience,
-                this.adventure.getSoundMapper().map(sound), x, y, z
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.PLAY_SOUND_POSITION.invokeExact(audience, this.adventure.getSoundMapper().map(sound), x, y, z);
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audiencePlaySoundPositionMethod), audience, ex
+                "playSound(Sound,double,double,double)", audience, ex
             );
         }
     }
@@ -504,19 +385,15 @@ public final class AudienceReflection {
      * @throws IllegalArgumentException if {@code emitter} is not {@code Sound.Emitter#self()}.
      */
     public void playSound(@NotNull Object audience, @NotNull Sound sound, @NotNull Sound.Emitter emitter) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
         Preconditions.checkArgument(emitter.equals(Sound.Emitter.self()),
             "unsupported Sound.Emitter type"
         );
 
         try {
-            Objects.requireNonNull(this.audiencePlaySoundEmitterMethod).invoke(audience,
-                this.adventure.getSoundMapper().map(sound),
-                Objects.requireNonNull(this.soundEmitterSelfMethod).invoke(null)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.PLAY_SOUND_EMITTER.invokeExact(audience, this.adventure.getSoundMapper().map(sound), (Object) Handles.SELF_EMITTER.invokeExact());
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audiencePlaySoundEmitterMethod), audience, ex
+                "playSound(Sound,Sound.Emitter)", audience, ex
             );
         }
     }
@@ -528,15 +405,11 @@ public final class AudienceReflection {
      * @param stop     SoundStop to be mapped and sent to the audience.
      */
     public void stopSound(@NotNull Object audience, @NotNull SoundStop stop) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceStopSoundMethod).invoke(audience,
-                this.adventure.getSoundStopMapper().map(stop)
-            );
-        } catch (ReflectiveOperationException ex) {
+            Handles.STOP_SOUND.invokeExact(audience, this.adventure.getSoundStopMapper().map(stop));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceStopSoundMethod), audience, ex
+                "stopSound(SoundStop)", audience, ex
             );
         }
     }
@@ -548,13 +421,11 @@ public final class AudienceReflection {
      * @param book     Book to be mapped and opened for the audience.
      */
     public void openBook(@NotNull Object audience, @NotNull Book book) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
         try {
-            Objects.requireNonNull(this.audienceOpenBookMethod).invoke(audience, this.adventure.getBookMapper().map(book));
-        } catch (ReflectiveOperationException ex) {
+            Handles.OPEN_BOOK.invokeExact(audience, this.adventure.getBookMapper().map(book));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceOpenBookMethod), audience, ex
+                "openBook(Book)", audience, ex
             );
         }
     }
@@ -570,42 +441,266 @@ public final class AudienceReflection {
      */
     @SuppressWarnings("unchecked")
     public <T> @NotNull Optional<T> getPointer(@NotNull Object pointered, @NotNull Pointer<T> pointer) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
+        Object value;
+        try {
+            value = Handles.POINTERED_GET.invokeExact(pointered, this.adventure.getPointerMapper().map(pointer));
+        } catch (Throwable ex) {
+            throw ChameleonReflectiveException.createMethodInvocationFailure(
+                "get(Pointer)", pointered, ex
+            );
+        }
+
+        return (Optional<T>) ((Optional<?>) value).map(v -> {
+            try {
+                return mapPointerValue(v);
+            } catch (Throwable ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+        });
+    }
 
+    /**
+     * Create a platform audience forwarding to the given platform audiences.
+     *
+     * @param audiences Platform audiences to invoke {@code Audience.audience(Iterable)} with.
+     *
+     * @return new platform forwarding audience.
+     */
+    public @NotNull Object createForwardingAudience(@NotNull Iterable<?> audiences) {
         try {
-            return (Optional<T>) ((Optional<?>) Objects.requireNonNull(this.pointeredGetMethod).invoke(pointered,
-                this.adventure.getPointerMapper().map(pointer)
-            )).map(value -> {
-                try {
-                    if (value.getClass().getCanonicalName().startsWith(AdventureMapper.ORIGINAL_PACKAGE)) {
-                        if (Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME).isInstance(value)) {
-                            // Pointer value is a component, map it backwards.
-                            return this.adventure.getComponentMapper().mapBackwards(value);
-                        }
+            return Handles.FORWARDING_AUDIENCE.invokeExact((Object) audiences);
+        } catch (Throwable ex) {
+            throw ChameleonReflectiveException.createMethodInvocationFailure(
+                "audience(Iterable)", audiences, ex
+            );
+        }
+    }
 
-                        if (Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME).isInstance(value)) {
-                            // Pointer value is a key, map it backwards.
-                            return this.adventure.getKeyMapper().mapBackwards(value);
-                        }
+    private @NotNull Object mapPointerValue(@NotNull Object value) throws Throwable {
+        if ((boolean) Handles.IS_COMPONENT.invokeExact(value)) {
+            // Pointer value is a component, map it backwards.
+            return this.adventure.getComponentMapper().mapBackwards(value);
+        }
 
-                        // Pointer value is a platform adventure object, however it has not been mapped.
-                        this.adventure.getChameleon().getInternalLogger().warn(
-                            "Failed to map Adventure Pointer value back to shaded Adventure object. " +
-                                "Please report this to the maintainers of https://github.com/ChameleonFramework/Chameleon so it can be properly mapped. " +
-                                "If this is incorrect, you can safely ignore this message or report it to the maintainers of Chameleon so it can be resolved."
-                        );
-                    }
+        if ((boolean) Handles.IS_KEY.invokeExact(value)) {
+            // Pointer value is a key, map it backwards.
+            return this.adventure.getKeyMapper().mapBackwards(value);
+        }
 
-                    return value;
-                } catch (ReflectiveOperationException ex) {
-                    throw new ChameleonReflectiveException(ex);
+        if (value.getClass().getName().startsWith(AdventureMapper.ORIGINAL_PACKAGE)) {
+            // Pointer value is a platform adventure object, however it has not been mapped.
+            this.adventure.getChameleon().getInternalLogger().warn(
+                "Failed to map Adventure Pointer value back to shaded Adventure object. " +
+                    "Please report this to the maintainers of https://github.com/ChameleonFramework/Chameleon so it can be properly mapped. " +
+                    "If this is incorrect, you can safely ignore this message or report it to the maintainers of Chameleon so it can be resolved."
+            );
+        }
+
+        return value;
+    }
+
+    /**
+     * Holder for the platform method handles, initialised on first use.
+     *
+     * <p>The handles are held in {@code static final} fields, so that the JIT compiler can treat
+     * them as constants and inline the methods they invoke. A method that could not be resolved is
+     * replaced with a handle of the same type that throws a new exception, caused by the
+     * resolution failure, whenever it is invoked.</p>
+     */
+    private static final class Handles {
+
+        private static final @NotNull MethodHandle UNRESOLVED = findUnresolved();
+        private static final @NotNull MethodHandle FORWARDING_AUDIENCE = audienceMethod(
+            MethodType.methodType(Object.class, Object.class), "audience", Iterable.class
+        );
+        private static final @NotNull MethodHandle SEND_MESSAGE = audienceMethod(voidType(Object.class), "sendMessage", AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+        private static final @NotNull MethodHandle SEND_MESSAGE_BOUND = audienceMethod(
+            voidType(Object.class, Object.class), "sendMessage", AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME, AdventureMapper.ORIGINAL_CHAT_TYPE_BOUND_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle DELETE_MESSAGE = audienceMethod(
+            voidType(Object.class), "deleteMessage", AdventureMapper.ORIGINAL_SIGNED_MESSAGE_SIGNATURE_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle SEND_MESSAGE_SOURCE_TYPE = audienceMethod(
+            voidType(Object.class, Object.class, Object.class), "sendMessage", AdventureMapper.ORIGINAL_IDENTITY_CLASS_NAME,
+            AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME, AdventureMapper.ORIGINAL_PACKAGE.concat("audience.MessageType")
+        );
+        private static final @NotNull MethodHandle SEND_ACTION_BAR = audienceMethod(voidType(Object.class), "sendActionBar", AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+        private static final @NotNull MethodHandle CLEAR_TITLE = audienceMethod(voidType(), "clearTitle");
+        private static final @NotNull MethodHandle RESET_TITLE = audienceMethod(voidType(), "resetTitle");
+        private static final @NotNull MethodHandle SHOW_BOSS_BAR = audienceMethod(
+            voidType(Object.class), "showBossBar", AdventureMapper.ORIGINAL_BOSSBAR_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle HIDE_BOSS_BAR = audienceMethod(
+            voidType(Object.class), "hideBossBar", AdventureMapper.ORIGINAL_BOSSBAR_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle PLAY_SOUND = audienceMethod(
+            voidType(Object.class), "playSound", AdventureMapper.ORIGINAL_SOUND_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle PLAY_SOUND_POSITION = audienceMethod(
+            voidType(Object.class, double.class, double.class, double.class), "playSound",
+            AdventureMapper.ORIGINAL_SOUND_CLASS_NAME, double.class, double.class, double.class
+        );
+        private static final @NotNull MethodHandle PLAY_SOUND_EMITTER = audienceMethod(
+            voidType(Object.class, Object.class), "playSound",
+            AdventureMapper.ORIGINAL_SOUND_CLASS_NAME, AdventureMapper.ORIGINAL_SOUND_EMITTER_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle STOP_SOUND = audienceMethod(
+            voidType(Object.class), "stopSound", AdventureMapper.ORIGINAL_SOUND_STOP_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle OPEN_BOOK = audienceMethod(
+            voidType(Object.class), "openBook", AdventureMapper.ORIGINAL_BOOK_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle SEND_PLAYER_LIST_HEADER = audienceMethod(
+            voidType(Object.class), "sendPlayerListHeader", AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle SEND_PLAYER_LIST_FOOTER = audienceMethod(
+            voidType(Object.class), "sendPlayerListFooter", AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle SEND_PLAYER_LIST_HEADER_AND_FOOTER = audienceMethod(
+            voidType(Object.class, Object.class), "sendPlayerListHeaderAndFooter", AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME, AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME
+        );
+        private static final @NotNull MethodHandle SEND_TITLE_PART = audienceMethod(
+            voidType(Object.class, Object.class), "sendTitlePart", AdventureMapper.ORIGINAL_TITLE_PART_CLASS_NAME, Object.class
+        );
+        private static final @NotNull MethodHandle SELF_EMITTER = resolve(MethodType.methodType(Object.class), () ->
+            ReflectionUtil.findHandle(Class.forName(AdventureMapper.ORIGINAL_SOUND_EMITTER_CLASS_NAME), "self")
+        );
+        private static final @NotNull MethodHandle POINTERED_GET = resolve(MethodType.methodType(Object.class, Object.class, Object.class), () ->
+            ReflectionUtil.findHandle(
+                Class.forName(AdventureMapper.ORIGINAL_POINTERED_CLASS_NAME), "get",
+                Class.forName(AdventureMapper.ORIGINAL_POINTER_CLASS_NAME)
+            )
+        );
+        private static final @NotNull MethodHandle IS_COMPONENT = isInstance(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+        private static final @NotNull MethodHandle IS_KEY = isInstance(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
+
+        private Handles() {
+
+        }
+
+        private static @NotNull MethodType voidType(@NotNull Class<?> @NotNull ... parameterTypes) {
+            // Audience methods take the audience as their first argument.
+            return MethodType.methodType(void.class, Object.class, parameterTypes);
+        }
+
+        private static @NotNull MethodHandle audienceMethod(@NotNull MethodType type, @NotNull String name, @NotNull Object @NotNull ... parameterTypes) {
+            return resolve(type, () -> {
+                // Parameter types are either classes or the names of platform classes.
+                Class<?>[] classes = new Class<?>[parameterTypes.length];
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    Object parameterType = parameterTypes[i];
+                    classes[i] = parameterType instanceof Class ? (Class<?>) parameterType : Class.forName((String) parameterType);
                 }
+                return ReflectionUtil.findHandle(Class.forName(AdventureMapper.ORIGINAL_AUDIENCE_CLASS_NAME), name, classes);
             });
-        } catch (ReflectiveOperationException ex) {
-            throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.pointeredGetMethod), pointered, ex
+        }
+
+        private static @NotNull MethodHandle isInstance(@NotNull String className) {
+            MethodType type = MethodType.methodType(boolean.class, Object.class);
+            return resolve(type, () ->
+                MethodHandles.publicLookup().findVirtual(Class.class, "isInstance", type).bindTo(Class.forName(className))
             );
         }
+
+        private static @NotNull MethodHandle resolve(@NotNull MethodType type, @NotNull Resolver<MethodHandle> resolver) {
+            try {
+                return resolver.resolve().asType(type);
+            } catch (ReflectiveOperationException ex) {
+                // Throw a new exception, caused by this failure, on every invocation.
+                MethodHandle thrower = MethodHandles.foldArguments(
+                    MethodHandles.throwException(type.returnType(), ReflectiveOperationException.class),
+                    MethodHandles.insertArguments(UNRESOLVED, 0, ex)
+                );
+                return MethodHandles.dropArguments(thrower, 0, type.parameterList());
+            }
+        }
+
+        private static @NotNull MethodHandle findUnresolved() {
+            try {
+                return MethodHandles.lookup().findStatic(Handles.class, "unresolved", MethodType.methodType(
+                    ReflectiveOperationException.class, ReflectiveOperationException.class
+                ));
+            } catch (ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        private static @NotNull ReflectiveOperationException unresolved(@NotNull ReflectiveOperationException failure) {
+            return new ReflectiveOperationException("Platform method could not be resolved", failure);
+        }
+
+    }
+
+    /**
+     * Resolver for a {@link Lazy} value or a method handle.
+     *
+     * @param <T> Value type.
+     */
+    @FunctionalInterface
+    private interface Resolver<T> {
+
+        @NotNull T resolve() throws ReflectiveOperationException;
+
+    }
+
+    /**
+     * Value that is resolved once, on first use, and then read without locking.
+     * <p>A failed resolution is cached rather than retried on every use, later uses throw a new
+     * exception caused by it.</p>
+     *
+     * @param <T> Value type.
+     */
+    private static final class Lazy<T> {
+
+        private final @NotNull Resolver<T> resolver;
+        private volatile @Nullable T value;
+        private volatile @Nullable ReflectiveOperationException failure;
+
+        private Lazy(@NotNull Resolver<T> resolver) {
+            this.resolver = resolver;
+        }
+
+        private @NotNull T get() throws ReflectiveOperationException {
+            T v = this.value;
+            if (v == null) {
+                ReflectiveOperationException failure = this.failure;
+                if (failure != null) {
+                    throw resolveFailed(failure);
+                }
+
+                synchronized (this) {
+                    v = this.value;
+                    failure = this.failure;
+                    if (failure != null) {
+                        throw resolveFailed(failure);
+                    }
+                    if (v == null) {
+                        try {
+                            v = this.resolver.resolve();
+                        } catch (ReflectiveOperationException ex) {
+                            this.failure = ex;
+                            throw ex;
+                        }
+                        this.value = v;
+                    }
+                }
+            }
+            return v;
+        }
+
+        /**
+         * Create the exception thrown when resolution failed on an earlier attempt.
+         * <p>A new exception is created on each call, so that it carries the current caller's stack
+         * trace, with the original failure as its cause.</p>
+         *
+         * @param failure Original failure.
+         *
+         * @return new exception.
+         */
+        private static @NotNull ReflectiveOperationException resolveFailed(@NotNull ReflectiveOperationException failure) {
+            return new ReflectiveOperationException("Resolution failed on an earlier attempt", failure);
+        }
+
     }
 
 }
@@ -25,6 +25,7 @@ package dev.hypera.chameleon.adventure;
 
 import dev.hypera.chameleon.util.Preconditions;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
@@ -49,13 +50,26 @@ import org.jetbrains.annotations.UnknownNullability;
 
 /**
  * Reflected audience wrapper.
+ *
+ * <p>The identity pointers in {@link #SNAPSHOT_POINTERS} are served from a snapshot that is taken
+ * from the platform audience on first use, and re-taken after {@link #invalidatePointers()}.</p>
  */
 @Internal
 @Experimental
 public final class ReflectedAudience implements ForwardingAudience.Single {
 
+    /**
+     * Pointers served from the pointer snapshot.
+     */
+    public static final @NotNull Set<Pointer<?>> SNAPSHOT_POINTERS = Set.of(
+        Identity.UUID, Identity.NAME, Identity.DISPLAY_NAME, Identity.LOCALE
+    );
+
     private final @NotNull Object audience;
     private final @NotNull AudienceReflection audienceReflection;
+    private final @NotNull Object pointerLock = new Object();
+    private volatile @Nullable Pointers pointerSnapshot;
+    private int pointerGeneration = 0;
 
     /**
      * Reflected audience constructor.
@@ -300,6 +314,15 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
         this.audienceReflection.openBook(this.audience, book);
     }
 
+    /**
+     * Gets the wrapped platform audience.
+     *
+     * @return the platform audience.
+     */
+    public @NotNull Object getPlatformAudience() {
+        return this.audience;
+    }
+
     /**
      * Gets the audience.
      *
@@ -320,6 +343,10 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
      */
     @Override
     public <T> @NotNull Optional<T> get(@NotNull Pointer<T> pointer) {
+        Preconditions.checkNotNull("pointer", pointer);
+        if (SNAPSHOT_POINTERS.contains(pointer)) {
+            return pointers().get(pointer);
+        }
         return this.audienceReflection.getPointer(this.audience, pointer);
     }
 
@@ -356,11 +383,55 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     /**
      * Gets the pointers for this object.
      *
+     * <p>Only the pointers in {@link #SNAPSHOT_POINTERS} are included.</p>
+     *
      * @return the pointers.
      */
     @Override
     public @NotNull Pointers pointers() {
-        return Pointers.empty(); // unsupported
+        Pointers snapshot = this.pointerSnapshot;
+        if (snapshot == null) {
+            int generation;
+            synchronized (this.pointerLock) {
+                generation = this.pointerGeneration;
+            }
+
+            snapshot = createPointerSnapshot();
+            synchronized (this.pointerLock) {
+                // Only publish the snapshot if it was not invalidated while being created.
+                if (generation == this.pointerGeneration) {
+                    this.pointerSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Invalidates the pointer snapshot, so it is re-taken from the platform audience the next time
+     * a snapshot pointer is requested.
+     *
+     * <p>This should be called whenever the display name or locale of the platform audience may
+     * have changed.</p>
+     */
+    public void invalidatePointers() {
+        synchronized (this.pointerLock) {
+            this.pointerGeneration++;
+            this.pointerSnapshot = null;
+        }
+    }
+
+    private @NotNull Pointers createPointerSnapshot() {
+        Pointers.Builder builder = Pointers.builder();
+        for (Pointer<?> pointer : SNAPSHOT_POINTERS) {
+            addToSnapshot(builder, pointer);
+        }
+        return builder.build();
+    }
+
+    private <T> void addToSnapshot(@NotNull Pointers.Builder builder, @NotNull Pointer<T> pointer) {
+        this.audienceReflection.getPointer(this.audience, pointer)
+            .ifPresent(value -> builder.withStatic(pointer, value));
     }
 
 }
@@ -0,0 +1,373 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.chat.ChatType;
+import net.kyori.adventure.chat.SignedMessage;
+import net.kyori.adventure.identity.Identified;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.inventory.Book;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.sound.SoundStop;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.TitlePart;
+import org.jetbrains.annotations.ApiStatus.Experimental;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reflected forwarding audience.
+ *
+ * <p>Members that are backed by a {@link ReflectedAudience}, directly or through
+ * {@link ForwardingAudience.Single}, are sent to through a single platform audience created with
+ * the platform's {@code Audience.audience(Iterable)}. Each call is therefore only mapped once,
+ * regardless of the number of members. Any other members are forwarded to as normal.</p>
+ */
+@Internal
+@Experimental
+public final class ReflectedForwardingAudience implements ForwardingAudience {
+
+    private final @NotNull Supplier<? extends Iterable<? extends Audience>> audiences;
+    private final @NotNull AudienceReflection audienceReflection;
+
+    /**
+     * Reflected forwarding audience constructor.
+     *
+     * @param audiences          Supplier of the audiences to forward to.
+     * @param audienceReflection Audience reflection helper.
+     */
+    public ReflectedForwardingAudience(@NotNull Supplier<? extends Iterable<? extends Audience>> audiences, @NotNull AudienceReflection audienceReflection) {
+        this.audiences = audiences;
+        this.audienceReflection = audienceReflection;
+    }
+
+    /**
+     * Gets the audiences.
+     *
+     * @return the audiences.
+     */
+    @Override
+    public @NotNull Iterable<? extends Audience> audiences() {
+        return this.audiences.get();
+    }
+
+    /**
+     * Filters this audience.
+     *
+     * <p>The returned audience is also a reflected forwarding audience.</p>
+     *
+     * @param filter a filter that determines if an audience should be included.
+     *
+     * @return an audience providing a snapshot of all audiences that match the filter.
+     */
+    @Override
+    public @NotNull Audience filterAudience(@NotNull Predicate<? super Audience> filter) {
+        Preconditions.checkNotNull("filter", filter);
+        List<Audience> filtered = new ArrayList<>();
+        for (Audience audience : audiences()) {
+            if (filter.test(audience)) {
+                filtered.add(audience);
+            }
+        }
+        return new ReflectedForwardingAudience(() -> filtered, this.audienceReflection);
+    }
+
+    /**
+     * Sends a system chat message to this Audience.
+     *
+     * @param message a message.
+     */
+    @Override
+    public void sendMessage(@NotNull Component message) {
+        Preconditions.checkNotNull("message", message);
+        forward(platform -> this.audienceReflection.sendMessage(platform, message), a -> a.sendMessage(message));
+    }
+
+    /**
+     * Sends a message to this Audience with the provided bound chat type.
+     *
+     * @param message       the component content.
+     * @param boundChatType the bound chat type.
+     */
+    @Override
+    public void sendMessage(@NotNull Component message, @NotNull ChatType.Bound boundChatType) {
+        Preconditions.checkNotNull("message", message);
+        Preconditions.checkNotNull("boundChatType", boundChatType);
+        forward(
+            platform -> this.audienceReflection.sendMessage(platform, message, boundChatType),
+            a -> a.sendMessage(message, boundChatType)
+        );
+    }
+
+    /**
+     * Sends an unsigned player chat message from the given Identified to this Audience with the
+     * ChatType corresponding to the provided MessageType.
+     *
+     * @param source  The source of the message.
+     * @param message A message.
+     * @param type    The type.
+     *
+     * @deprecated for removal since Adventure 4.12.0.
+     */
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public void sendMessage(@NotNull Identified source, @NotNull Component message, @NotNull net.kyori.adventure.audience.MessageType type) {
+        sendMessage(source.identity(), message, type);
+    }
+
+    /**
+     * Sends an unsigned player chat message from the given Identity to this Audience with the
+     * ChatType corresponding to the provided MessageType.
+     *
+     * @param source  The source of the message.
+     * @param message A message.
+     * @param type    The type.
+     *
+     * @deprecated for removal since Adventure 4.12.0.
+     */
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public void sendMessage(@NotNull Identity source, @NotNull Component message, @NotNull net.kyori.adventure.audience.MessageType type) {
+        Preconditions.checkNotNull("source", source);
+        Preconditions.checkNotNull("message", message);
+        Preconditions.checkNotNull("type", type);
+        forward(
+            platform -> this.audienceReflection.sendMessage(platform, source, message, type),
+            a -> a.sendMessage(source, message, type)
+        );
+    }
+
+    /**
+     * Requests deletion of a message with the provided signature.
+     *
+     * @param signature The signature.
+     */
+    @Override
+    public void deleteMessage(@NotNull SignedMessage.Signature signature) {
+        Preconditions.checkNotNull("signature", signature);
+        forward(platform -> this.audienceReflection.deleteMessage(platform, signature), a -> a.deleteMessage(signature));
+    }
+
+    /**
+     * Sends a message on the action bar.
+     *
+     * @param message A message.
+     */
+    @Override
+    public void sendActionBar(@NotNull Component message) {
+        Preconditions.checkNotNull("message", message);
+        forward(platform -> this.audienceReflection.sendActionBar(platform, message), a -> a.sendActionBar(message));
+    }
+
+    /**
+     * Sends the player list header.
+     *
+     * @param header The header.
+     */
+    @Override
+    public void sendPlayerListHeader(@NotNull Component header) {
+        Preconditions.checkNotNull("header", header);
+        forward(
+            platform -> this.audienceReflection.sendPlayerListHeader(platform, header),
+            a -> a.sendPlayerListHeader(header)
+        );
+    }
+
+    /**
+     * Sends the player list footer.
+     *
+     * @param footer The footer.
+     */
+    @Override
+    public void sendPlayerListFooter(@NotNull Component footer) {
+        Preconditions.checkNotNull("footer", footer);
+        forward(
+            platform -> this.audienceReflection.sendPlayerListFooter(platform, footer),
+            a -> a.sendPlayerListFooter(footer)
+        );
+    }
+
+    /**
+     * Sends the player list header and footer.
+     *
+     * @param header The header.
+     * @param footer The footer.
+     */
+    @Override
+    public void sendPlayerListHeaderAndFooter(@NotNull Component header, @NotNull Component footer) {
+        Preconditions.checkNotNull("header", header);
+        Preconditions.checkNotNull("footer", footer);
+        forward(
+            platform -> this.audienceReflection.sendPlayerListHeaderAndFooter(platform, header, footer),
+            a -> a.sendPlayerListHeaderAndFooter(header, footer)
+        );
+    }
+
+    /**
+     * Shows a part of a title.
+     *
+     * @param part  The part.
+     * @param value The value.
+     * @param <T>   The type of the value of the part.
+     *
+     * @throws IllegalArgumentException if a title part that is not in TitlePart is used.
+     */
+    @Override
+    public <T> void sendTitlePart(@NotNull TitlePart<T> part, @NotNull T value) {
+        Preconditions.checkNotNull("part", part);
+        Preconditions.checkNotNull("value", value);
+        forward(
+            platform -> this.audienceReflection.sendTitlePart(platform, part, value),
+            a -> a.sendTitlePart(part, value)
+        );
+    }
+
+    /**
+     * Clears the title, if one is being displayed.
+     */
+    @Override
+    public void clearTitle() {
+        forward(this.audienceReflection::clearTitle, Audience::clearTitle);
+    }
+
+    /**
+     * Resets the title and timings back to their default.
+     */
+    @Override
+    public void resetTitle() {
+        forward(this.audienceReflection::resetTitle, Audience::resetTitle);
+    }
+
+    /**
+     * Shows a boss bar.
+     *
+     * @param bar A boss bar.
+     */
+    @Override
+    public void showBossBar(@NotNull BossBar bar) {
+        Preconditions.checkNotNull("bar", bar);
+        forward(platform -> this.audienceReflection.showBossBar(platform, bar), a -> a.showBossBar(bar));
+    }
+
+    /**
+     * Hides a boss bar.
+     *
+     * @param bar A boss bar.
+     */
+    @Override
+    public void hideBossBar(@NotNull BossBar bar) {
+        Preconditions.checkNotNull("bar", bar);
+        forward(platform -> this.audienceReflection.hideBossBar(platform, bar), a -> a.hideBossBar(bar));
+    }
+
+    /**
+     * Plays a sound at the location of the recipient of the sound.
+     *
+     * @param sound A sound.
+     */
+    @Override
+    public void playSound(@NotNull Sound sound) {
+        Preconditions.checkNotNull("sound", sound);
+        forward(platform -> this.audienceReflection.playSound(platform, sound), a -> a.playSound(sound));
+    }
+
+    /**
+     * Plays a sound at a location.
+     *
+     * @param sound A sound.
+     * @param x     Position X coordinate.
+     * @param y     Position Y coordinate.
+     * @param z     Position Z coordinate.
+     */
+    @Override
+    public void playSound(@NotNull Sound sound, double x, double y, double z) {
+        Preconditions.checkNotNull("sound", sound);
+        forward(
+            platform -> this.audienceReflection.playSound(platform, sound, x, y, z),
+            a -> a.playSound(sound, x, y, z)
+        );
+    }
+
+    /**
+     * Stops a sound, or many sounds.
+     *
+     * @param stop A sound stop.
+     */
+    @Override
+    public void stopSound(@NotNull SoundStop stop) {
+        Preconditions.checkNotNull("stop", stop);
+        forward(platform -> this.audienceReflection.stopSound(platform, stop), a -> a.stopSound(stop));
+    }
+
+    /**
+     * Opens a book.
+     *
+     * @param book A book.
+     */
+    @Override
+    public void openBook(@NotNull Book book) {
+        Preconditions.checkNotNull("book", book);
+        forward(platform -> this.audienceReflection.openBook(platform, book), a -> a.openBook(book));
+    }
+
+    private void forward(@NotNull Consumer<Object> platform, @NotNull Consumer<Audience> fallback) {
+        List<Object> platformAudiences = new ArrayList<>();
+        for (Audience audience : audiences()) {
+            Object platformAudience = unwrap(audience);
+            if (platformAudience != null) {
+                platformAudiences.add(platformAudience);
+            } else {
+                fallback.accept(audience);
+            }
+        }
+
+        if (!platformAudiences.isEmpty()) {
+            platform.accept(this.audienceReflection.createForwardingAudience(platformAudiences));
+        }
+    }
+
+    private static @Nullable Object unwrap(@NotNull Audience audience) {
+        if (audience instanceof ReflectedAudience) {
+            return ((ReflectedAudience) audience).getPlatformAudience();
+        }
+        if (audience instanceof ForwardingAudience.Single) {
+            Audience forwarded = ((ForwardingAudience.Single) audience).audience();
+            return forwarded == audience ? null : unwrap(forwarded);
+        }
+        return null;
+    }
+
+}
@@ -26,9 +26,18 @@ package dev.hypera.chameleon.adventure.mapper;
 import dev.hypera.chameleon.Chameleon;
 import dev.hypera.chameleon.adventure.AudienceReflection;
 import dev.hypera.chameleon.adventure.ReflectedAudience;
-import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
+import dev.hypera.chameleon.adventure.ReflectedForwardingAudience;
 import dev.hypera.chameleon.util.Preconditions;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
 import org.jetbrains.annotations.ApiStatus.Experimental;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -67,10 +76,13 @@ public final class AdventureMapper {
 
     private final @NotNull Chameleon chameleon;
     private final @NotNull AtomicBoolean loaded = new AtomicBoolean(false);
-    private final @NotNull ComponentMapper componentMapper = new ComponentMapper();
+    private final @NotNull MappingCache<Component> componentCache = new MappingCache<>();
+    private final @NotNull MappingCache<Style> styleCache = new MappingCache<>();
+    private final @NotNull MappingCache<Key> keyCache = new MappingCache<>();
+    private final @NotNull ComponentMapper componentMapper = new ComponentMapper(this.componentCache, this.styleCache);
     private final @NotNull BookMapper bookMapper = new BookMapper(this.componentMapper);
     private final @NotNull BossBarMapper bossBarMapper = new BossBarMapper(this.componentMapper);
-    private final @NotNull KeyMapper keyMapper = new KeyMapper();
+    private final @NotNull KeyMapper keyMapper = new KeyMapper(this.keyCache);
     private final @NotNull ChatTypeMapper chatTypeMapper = new ChatTypeMapper(this.keyMapper);
     private final @NotNull BoundMapper boundMapper = new BoundMapper(this.chatTypeMapper, this.componentMapper);
     private final @NotNull IdentityMapper identityMapper = new IdentityMapper();
@@ -94,27 +106,56 @@ public final class AdventureMapper {
     }
 
     /**
-     * Load all mappers.
+     * Load the mapper.
      *
-     * @throws ChameleonReflectiveException when an exception is thrown by a mapper's load method.
+     * <p>Only the platform {@code Audience} class is resolved here, each individual mapper resolves
+     * its platform classes and methods the first time it is used.</p>
+     *
+     * @throws ReflectiveOperationException if the platform {@code Audience} class cannot be found.
      */
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!this.loaded.get(), "mappers have already been loaded");
-        this.componentMapper.load();
-        this.bookMapper.load();
-        this.bossBarMapper.load();
-        this.keyMapper.load();
-        this.chatTypeMapper.load();
-        this.boundMapper.load();
-        this.identityMapper.load();
-        this.pointerMapper.load();
-        this.signatureMapper.load();
-        this.soundMapper.load();
-        this.soundStopMapper.load();
-        this.timesMapper.load();
-        this.titlePartMapper.load();
+        long start = System.nanoTime();
         this.audienceReflection.load();
         this.loaded.set(true);
+        this.chameleon.getInternalLogger().debug(
+            "Loaded Adventure mapper in {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+    }
+
+    /**
+     * Log whether each mapper has resolved its platform classes and methods.
+     *
+     * <p>Mappers are resolved on first use, so this is only meaningful once the mapper has been
+     * used.</p>
+     *
+     * @see #getResolvedMappers()
+     */
+    public void logResolvedMappers() {
+        this.chameleon.getInternalLogger().debug("Resolved Adventure mappers: {}", getResolvedMappers());
+    }
+
+    /**
+     * Get whether each mapper has resolved its platform classes and methods.
+     *
+     * @return map of mapper names to whether they have been resolved.
+     */
+    public @NotNull Map<String, Boolean> getResolvedMappers() {
+        Map<String, Boolean> resolved = new LinkedHashMap<>();
+        resolved.put("component", this.componentMapper.isLoaded());
+        resolved.put("book", this.bookMapper.isLoaded());
+        resolved.put("bossBar", this.bossBarMapper.isLoaded());
+        resolved.put("key", this.keyMapper.isLoaded());
+        resolved.put("chatType", this.chatTypeMapper.isLoaded());
+        resolved.put("bound", this.boundMapper.isLoaded());
+        resolved.put("identity", this.identityMapper.isLoaded());
+        resolved.put("pointer", this.pointerMapper.isLoaded());
+        resolved.put("signature", this.signatureMapper.isLoaded());
+        resolved.put("sound", this.soundMapper.isLoaded());
+        resolved.put("soundStop", this.soundStopMapper.isLoaded());
+        resolved.put("times", this.timesMapper.isLoaded());
+        resolved.put("titlePart", this.titlePartMapper.isLoaded());
+        return Collections.unmodifiableMap(resolved);
     }
 
     /**
@@ -130,6 +171,22 @@ public final class AdventureMapper {
         return new ReflectedAudience(audience, this.audienceReflection);
     }
 
+    /**
+     * Create a new reflected audience forwarding to the given audiences.
+     *
+     * <p>Members backed by a {@link ReflectedAudience} are sent to through a single platform
+     * audience, so each message is only mapped once.</p>
+     *
+     * @param audiences Supplier of the audiences to forward to, invoked on each call.
+     *
+     * @return new reflected forwarding audience.
+     */
+    public @NotNull ReflectedForwardingAudience createReflectedForwardingAudience(@NotNull Supplier<? extends Iterable<? extends Audience>> audiences) {
+        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Preconditions.checkNotNull("audiences", audiences);
+        return new ReflectedForwardingAudience(audiences, this.audienceReflection);
+    }
+
     /**
      * Get whether this mapper has been loaded.
      *
@@ -265,4 +322,31 @@ public final class AdventureMapper {
         return this.titlePartMapper;
     }
 
+    /**
+     * Get the cache of mapped components.
+     *
+     * @return component cache.
+     */
+    public @NotNull MappingCache<Component> getComponentCache() {
+        return this.componentCache;
+    }
+
+    /**
+     * Get the cache of mapped styles.
+     *
+     * @return style cache.
+     */
+    public @NotNull MappingCache<Style> getStyleCache() {
+        return this.styleCache;
+    }
+
+    /**
+     * Get the cache of mapped keys.
+     *
+     * @return key cache.
+     */
+    public @NotNull MappingCache<Key> getKeyCache() {
+        return this.keyCache;
+    }
+
 }
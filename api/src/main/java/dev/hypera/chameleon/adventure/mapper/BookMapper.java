@@ -36,7 +36,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Book mapper.
  */
-public final class BookMapper implements Mapper<Book> {
+public final class BookMapper extends LazyMapper<Book> {
 
     private final @NotNull ComponentMapper componentMapper;
     private @Nullable Method bookCreateMethod;
@@ -52,8 +52,7 @@ public final class BookMapper implements Mapper<Book> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> bookClass = Class.forName(AdventureMapper.ORIGINAL_BOOK_CLASS_NAME);
         Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
         this.bookCreateMethod = bookClass.getMethod("book", componentClass, componentClass, Collection.class);
@@ -62,22 +61,12 @@ public final class BookMapper implements Mapper<Book> {
         this.bookPagesMethod = bookClass.getMethod("pages");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.componentMapper.isLoaded() &&
-            this.bookCreateMethod != null && this.bookTitleMethod != null &&
-            this.bookAuthorMethod != null && this.bookPagesMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull Book book) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("book", book);
 
         Collection<Object> pages = new ArrayList<>();
@@ -97,7 +86,7 @@ public final class BookMapper implements Mapper<Book> {
     @Override
     @SuppressWarnings("unchecked")
     public @NotNull Book mapBackwards(@NotNull Object book) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("book", book);
 
         Collection<Component> pages = new ArrayList<>();
@@ -23,32 +23,48 @@
  */
 package dev.hypera.chameleon.adventure.mapper;
 
+import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import dev.hypera.chameleon.util.internal.ReflectionUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.bossbar.BossBar.Flag;
+import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Adventure BossBar mapper.
+ *
+ * <p>Each BossBar is mapped to a single platform BossBar, which is kept up to date by forwarding
+ * every change made to the original, so shown boss bars can be updated in place.</p>
  */
-public final class BossBarMapper implements Mapper<BossBar> {
+public final class BossBarMapper extends LazyMapper<BossBar> {
 
     private final @NotNull ComponentMapper componentMapper;
+    private final @NotNull Map<BossBar, Object> mirrors = new WeakHashMap<>();
     private @Nullable EnumMapper<BossBar.Color> bossBarColorMapper;
     private @Nullable EnumMapper<BossBar.Overlay> bossBarOverlayMapper;
     private @Nullable EnumMapper<BossBar.Flag> bossBarFlagMapper;
-    private @Nullable Method bossBarCreateMethod;
-    private @Nullable Method bossBarNameMethod;
-    private @Nullable Method bossBarProgressMethod;
-    private @Nullable Method bossBarColorMethod;
-    private @Nullable Method bossBarOverlayMethod;
-    private @Nullable Method bossBarFlagsMethod;
+    private @Nullable MethodHandle bossBarCreate;
+    private @Nullable MethodHandle bossBarName;
+    private @Nullable MethodHandle bossBarProgress;
+    private @Nullable MethodHandle bossBarColor;
+    private @Nullable MethodHandle bossBarOverlay;
+    private @Nullable MethodHandle bossBarFlags;
+    private @Nullable MethodHandle bossBarSetName;
+    private @Nullable MethodHandle bossBarSetProgress;
+    private @Nullable MethodHandle bossBarSetColor;
+    private @Nullable MethodHandle bossBarSetOverlay;
+    private @Nullable MethodHandle bossBarAddFlags;
+    private @Nullable MethodHandle bossBarRemoveFlags;
 
     BossBarMapper(@NotNull ComponentMapper componentMapper) {
         this.componentMapper = componentMapper;
@@ -58,8 +74,8 @@ public final class BossBarMapper implements Mapper<BossBar> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
+        Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
         Class<?> componentLikeClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_LIKE_CLASS_NAME);
         Class<?> bossBarClass = Class.forName(AdventureMapper.ORIGINAL_BOSSBAR_CLASS_NAME);
         Class<?> colorEnum = Class.forName(bossBarClass.getCanonicalName() + "$Color");
@@ -68,71 +84,166 @@ public final class BossBarMapper implements Mapper<BossBar> {
         this.bossBarColorMapper = EnumMapper.createAndLoad(BossBar.Color.class, colorEnum);
         this.bossBarOverlayMapper = EnumMapper.createAndLoad(BossBar.Overlay.class, overlayEnum);
         this.bossBarFlagMapper = EnumMapper.createAndLoad(BossBar.Flag.class, flagEnum);
-        this.bossBarCreateMethod = bossBarClass.getMethod("bossBar", componentLikeClass, float.class, colorEnum, overlayEnum, Set.class);
-        this.bossBarNameMethod = bossBarClass.getMethod("name");
-        this.bossBarProgressMethod = bossBarClass.getMethod("progress");
-        this.bossBarColorMethod = bossBarClass.getMethod("color");
-        this.bossBarOverlayMethod = bossBarClass.getMethod("overlay");
-        this.bossBarFlagsMethod = bossBarClass.getMethod("flags");
+        this.bossBarCreate = ReflectionUtil.findHandle(bossBarClass, "bossBar", componentLikeClass, float.class, colorEnum, overlayEnum, Set.class);
+        this.bossBarName = ReflectionUtil.findHandle(bossBarClass, "name");
+        this.bossBarProgress = ReflectionUtil.findHandle(bossBarClass, "progress");
+        this.bossBarColor = ReflectionUtil.findHandle(bossBarClass, "color");
+        this.bossBarOverlay = ReflectionUtil.findHandle(bossBarClass, "overlay");
+        this.bossBarFlags = ReflectionUtil.findHandle(bossBarClass, "flags");
+        this.bossBarSetName = ReflectionUtil.findHandle(bossBarClass, "name", componentClass);
+        this.bossBarSetProgress = ReflectionUtil.findHandle(bossBarClass, "progress", float.class);
+        this.bossBarSetColor = ReflectionUtil.findHandle(bossBarClass, "color", colorEnum);
+        this.bossBarSetOverlay = ReflectionUtil.findHandle(bossBarClass, "overlay", overlayEnum);
+        this.bossBarAddFlags = ReflectionUtil.findHandle(bossBarClass, "addFlags", Iterable.class);
+        this.bossBarRemoveFlags = ReflectionUtil.findHandle(bossBarClass, "removeFlags", Iterable.class);
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>The same platform BossBar is returned each time a BossBar is mapped, and changes made to
+     * the BossBar afterwards are applied to it.</p>
      */
     @Override
-    public boolean isLoaded() {
-        return this.componentMapper.isLoaded() &&
-            this.bossBarCreateMethod != null && this.bossBarNameMethod != null &&
-            this.bossBarProgressMethod != null && this.bossBarColorMethod != null &&
-            this.bossBarOverlayMethod != null && this.bossBarFlagsMethod != null &&
-            this.bossBarColorMapper != null && this.bossBarColorMapper.isLoaded() &&
-            this.bossBarOverlayMapper != null && this.bossBarOverlayMapper.isLoaded() &&
-            this.bossBarFlagMapper != null && this.bossBarFlagMapper.isLoaded();
+    public @NotNull Object map(@NotNull BossBar bossBar) throws ReflectiveOperationException {
+        ensureLoaded();
+        Preconditions.checkNotNull("bossBar", bossBar);
+
+        synchronized (this.mirrors) {
+            Object mirror = this.mirrors.get(bossBar);
+            if (mirror == null) {
+                mirror = create(bossBar);
+                bossBar.addListener(new MirrorListener(mirror));
+                this.mirrors.put(bossBar, mirror);
+            }
+            return mirror;
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public @NotNull Object map(@NotNull BossBar bossBar) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+    public @NotNull BossBar mapBackwards(@NotNull Object bossBar) throws ReflectiveOperationException {
+        ensureLoaded();
         Preconditions.checkNotNull("bossBar", bossBar);
 
-        Set<Object> flags = new HashSet<>();
-        for (Flag flag : bossBar.flags()) {
-            flags.add(Objects.requireNonNull(this.bossBarFlagMapper).map(flag));
+        try {
+            Object mappedFlags = Objects.requireNonNull(this.bossBarFlags).invokeExact(bossBar);
+            Set<Flag> flags = new HashSet<>();
+            for (Object flag : (Collection<?>) mappedFlags) {
+                flags.add(Objects.requireNonNull(this.bossBarFlagMapper).mapBackwards(flag));
+            }
+
+            return BossBar.bossBar(
+                this.componentMapper.mapBackwards(Objects.requireNonNull(this.bossBarName).invokeExact(bossBar)),
+                (float) Objects.requireNonNull(this.bossBarProgress).invokeExact(bossBar),
+                Objects.requireNonNull(this.bossBarColorMapper).mapBackwards(Objects.requireNonNull(this.bossBarColor).invokeExact(bossBar)),
+                Objects.requireNonNull(this.bossBarOverlayMapper).mapBackwards(Objects.requireNonNull(this.bossBarOverlay).invokeExact(bossBar)),
+                flags
+            );
+        } catch (ReflectiveOperationException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
         }
+    }
 
-        return Objects.requireNonNull(this.bossBarCreateMethod).invoke(null,
-            this.componentMapper.map(bossBar.name()),
-            bossBar.progress(),
-            Objects.requireNonNull(this.bossBarColorMapper).map(bossBar.color()),
-            Objects.requireNonNull(this.bossBarOverlayMapper).map(bossBar.overlay()),
-            flags
-        );
+    private @NotNull Object create(@NotNull BossBar bossBar) throws ReflectiveOperationException {
+        try {
+            return Objects.requireNonNull(this.bossBarCreate).invokeExact(
+                this.componentMapper.map(bossBar.name()),
+                bossBar.progress(),
+                Objects.requireNonNull(this.bossBarColorMapper).map(bossBar.color()),
+                Objects.requireNonNull(this.bossBarOverlayMapper).map(bossBar.overlay()),
+                (Object) mapFlags(bossBar.flags())
+            );
+        } catch (ReflectiveOperationException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    private @NotNull Set<Object> mapFlags(@NotNull Set<Flag> flags) throws ReflectiveOperationException {
+        Set<Object> mapped = new HashSet<>();
+        for (Flag flag : flags) {
+            mapped.add(Objects.requireNonNull(this.bossBarFlagMapper).map(flag));
+        }
+        return mapped;
     }
 
     /**
-     * {@inheritDoc}
+     * Forwards changes made to a BossBar to its platform BossBar.
      */
-    @Override
-    @SuppressWarnings("unchecked")
-    public @NotNull BossBar mapBackwards(@NotNull Object bossBar) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
-        Preconditions.checkNotNull("bossBar", bossBar);
+    private final class MirrorListener implements BossBar.Listener {
+
+        private final @NotNull Object mirror;
+
+        private MirrorListener(@NotNull Object mirror) {
+            this.mirror = mirror;
+        }
+
+        @Override
+        public void bossBarNameChanged(@NotNull BossBar bar, @NotNull Component oldName, @NotNull Component newName) {
+            try {
+                Object unused = Objects.requireNonNull(BossBarMapper.this.bossBarSetName)
+                    .invokeExact(this.mirror, BossBarMapper.this.componentMapper.map(newName));
+            } catch (Throwable ex) {
+                throw ChameleonReflectiveException.createMethodInvocationFailure("name(Component)", this.mirror, ex);
+            }
+        }
+
+        @Override
+        public void bossBarProgressChanged(@NotNull BossBar bar, float oldProgress, float newProgress) {
+            try {
+                Object unused = Objects.requireNonNull(BossBarMapper.this.bossBarSetProgress)
+                    .invokeExact(this.mirror, newProgress);
+            } catch (Throwable ex) {
+                throw ChameleonReflectiveException.createMethodInvocationFailure("progress(float)", this.mirror, ex);
+            }
+        }
+
+        @Override
+        public void bossBarColorChanged(@NotNull BossBar bar, BossBar.@NotNull Color oldColor, BossBar.@NotNull Color newColor) {
+            try {
+                Object unused = Objects.requireNonNull(BossBarMapper.this.bossBarSetColor)
+                    .invokeExact(this.mirror, Objects.requireNonNull(BossBarMapper.this.bossBarColorMapper).map(newColor));
+            } catch (Throwable ex) {
+                throw ChameleonReflectiveException.createMethodInvocationFailure("color(BossBar.Color)", this.mirror, ex);
+            }
+        }
+
+        @Override
+        public void bossBarOverlayChanged(@NotNull BossBar bar, BossBar.@NotNull Overlay oldOverlay, BossBar.@NotNull Overlay newOverlay) {
+            try {
+                Object unused = Objects.requireNonNull(BossBarMapper.this.bossBarSetOverlay)
+                    .invokeExact(this.mirror, Objects.requireNonNull(BossBarMapper.this.bossBarOverlayMapper).map(newOverlay));
+            } catch (Throwable ex) {
+                throw ChameleonReflectiveException.createMethodInvocationFailure("overlay(BossBar.Overlay)", this.mirror, ex);
+            }
+        }
 
-        Set<Flag> flags = new HashSet<>();
-        for (Object flag : (Collection<Object>) Objects.requireNonNull(this.bossBarFlagsMethod).invoke(bossBar)) {
-            flags.add(Objects.requireNonNull(this.bossBarFlagMapper).mapBackwards(flag));
+        @Override
+        public void bossBarFlagsChanged(@NotNull BossBar bar, @NotNull Set<Flag> flagsAdded, @NotNull Set<Flag> flagsRemoved) {
+            if (!flagsAdded.isEmpty()) {
+                try {
+                    Object unused = Objects.requireNonNull(BossBarMapper.this.bossBarAddFlags)
+                        .invokeExact(this.mirror, (Object) mapFlags(flagsAdded));
+                } catch (Throwable ex) {
+                    throw ChameleonReflectiveException.createMethodInvocationFailure("addFlags(Iterable)", this.mirror, ex);
+                }
+            }
+            if (!flagsRemoved.isEmpty()) {
+                try {
+                    Object unused = Objects.requireNonNull(BossBarMapper.this.bossBarRemoveFlags)
+                        .invokeExact(this.mirror, (Object) mapFlags(flagsRemoved));
+                } catch (Throwable ex) {
+                    throw ChameleonReflectiveException.createMethodInvocationFailure("removeFlags(Iterable)", this.mirror, ex);
+                }
+            }
         }
 
-        return BossBar.bossBar(
-            this.componentMapper.mapBackwards(Objects.requireNonNull(this.bossBarNameMethod).invoke(bossBar)),
-            (float) Objects.requireNonNull(this.bossBarProgressMethod).invoke(bossBar),
-            Objects.requireNonNull(this.bossBarColorMapper).mapBackwards(Objects.requireNonNull(this.bossBarColorMethod).invoke(bossBar)),
-            Objects.requireNonNull(this.bossBarOverlayMapper).mapBackwards(Objects.requireNonNull(this.bossBarOverlayMethod).invoke(bossBar)),
-           flags
-        );
     }
 
 }
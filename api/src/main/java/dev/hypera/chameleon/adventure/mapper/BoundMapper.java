@@ -33,7 +33,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure Bound mapper.
  */
-public final class BoundMapper implements Mapper<ChatType.Bound> {
+public final class BoundMapper extends LazyMapper<ChatType.Bound> {
 
     private final @NotNull ChatTypeMapper chatTypeMapper;
     private final @NotNull ComponentMapper componentMapper;
@@ -51,8 +51,7 @@ public final class BoundMapper implements Mapper<ChatType.Bound> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> chatTypeClass = Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_CLASS_NAME);
         Class<?> boundClass = Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_BOUND_CLASS_NAME);
         Class<?> componentLikeClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_LIKE_CLASS_NAME);
@@ -62,22 +61,12 @@ public final class BoundMapper implements Mapper<ChatType.Bound> {
         this.boundTargetMethod = boundClass.getMethod("target");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.chatTypeMapper.isLoaded() && this.componentMapper.isLoaded() &&
-            this.chatTypeBindMethod != null && this.boundTypeMethod != null &&
-            this.boundNameMethod != null && this.boundTargetMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull ChatType.Bound bound) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("bound", bound);
         return Objects.requireNonNull(this.chatTypeBindMethod).invoke(
             this.chatTypeMapper.map(bound.type()), this.componentMapper.map(bound.name()),
@@ -91,7 +80,7 @@ public final class BoundMapper implements Mapper<ChatType.Bound> {
     @NotNull
     @Override
     public ChatType.Bound mapBackwards(@NotNull Object bound) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("bound", bound);
         Object target = Objects.requireNonNull(this.boundTargetMethod).invoke(bound);
         return this.chatTypeMapper.mapBackwards(Objects.requireNonNull(this.boundTypeMethod).invoke(bound)).bind(
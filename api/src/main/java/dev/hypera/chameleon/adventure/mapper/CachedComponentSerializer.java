@@ -0,0 +1,109 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.ComponentSerializer;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Component serializer that caches the results of another serializer.
+ *
+ * <p>Serialized components and deserialized strings are kept in bounded {@link MappingCache}s, so
+ * that serializing the same component for many users, or deserializing the same string many times,
+ * only invokes the underlying serializer once.</p>
+ */
+@Internal
+public final class CachedComponentSerializer implements ComponentSerializer<Component, Component, String> {
+
+    private static final @NotNull Map<ComponentSerializer<Component, ? extends Component, String>, CachedComponentSerializer> SHARED = new ConcurrentHashMap<>();
+
+    private final @NotNull ComponentSerializer<Component, ? extends Component, String> serializer;
+    private final @NotNull MappingCache<Component> serializeCache = new MappingCache<>();
+    private final @NotNull MappingCache<String> deserializeCache = new MappingCache<>();
+
+    /**
+     * Cached component serializer constructor.
+     *
+     * @param serializer Serializer to cache the results of.
+     */
+    public CachedComponentSerializer(@NotNull ComponentSerializer<Component, ? extends Component, String> serializer) {
+        Preconditions.checkNotNull("serializer", serializer);
+        this.serializer = serializer;
+    }
+
+    /**
+     * Returns the shared cached serializer for the given serializer.
+     *
+     * <p>Every caller passing the same serializer instance, for example
+     * {@code LegacyComponentSerializer.legacySection()}, shares the same caches.</p>
+     *
+     * @param serializer Serializer to cache the results of.
+     *
+     * @return shared cached serializer.
+     */
+    public static @NotNull CachedComponentSerializer shared(@NotNull ComponentSerializer<Component, ? extends Component, String> serializer) {
+        Preconditions.checkNotNull("serializer", serializer);
+        return SHARED.computeIfAbsent(serializer, CachedComponentSerializer::new);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Component deserialize(@NotNull String input) {
+        return (Component) this.deserializeCache.get(input, this.serializer::deserialize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String serialize(@NotNull Component component) {
+        return (String) this.serializeCache.get(component, this.serializer::serialize);
+    }
+
+    /**
+     * Get the cache of serialized components.
+     *
+     * @return serialized component cache.
+     */
+    public @NotNull MappingCache<Component> getSerializeCache() {
+        return this.serializeCache;
+    }
+
+    /**
+     * Get the cache of deserialized strings.
+     *
+     * @return deserialized string cache.
+     */
+    public @NotNull MappingCache<String> getDeserializeCache() {
+        return this.deserializeCache;
+    }
+
+}
@@ -33,7 +33,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure ChatType mapper.
  */
-public final class ChatTypeMapper implements Mapper<ChatType> {
+public final class ChatTypeMapper extends LazyMapper<ChatType> {
 
     private final @NotNull KeyMapper keyMapper;
     private @Nullable Method chatTypeCreateMethod;
@@ -47,30 +47,19 @@ public final class ChatTypeMapper implements Mapper<ChatType> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> chatTypeClass = Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_CLASS_NAME);
         Class<?> keyedClass = Class.forName(AdventureMapper.ORIGINAL_KEYED_CLASS_NAME);
         this.chatTypeCreateMethod = chatTypeClass.getMethod("chatType", keyedClass);
         this.keyedKeyMethod = keyedClass.getMethod("key");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.keyMapper.isLoaded() &&
-            this.chatTypeCreateMethod != null &&
-            this.keyedKeyMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull ChatType chatType) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("chatType", chatType);
         return Objects.requireNonNull(this.chatTypeCreateMethod).invoke(null, this.keyMapper.map(chatType.key()));
     }
@@ -80,7 +69,7 @@ public final class ChatTypeMapper implements Mapper<ChatType> {
      */
     @Override
     public @NotNull ChatType mapBackwards(@NotNull Object chatType) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("chatType", chatType);
         return ChatType.chatType(this.keyMapper.mapBackwards(Objects.requireNonNull(this.keyedKeyMethod).invoke(chatType)));
     }
@@ -27,25 +27,44 @@ import dev.hypera.chameleon.util.Preconditions;
 import java.lang.reflect.Method;
 import java.util.Objects;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Adventure Component mapper.
+ *
+ * <p>Components are mapped structurally where possible, falling back to a JSON round-trip for
+ * components that cannot be, or if the platform's Adventure version is not supported.</p>
  */
-public final class ComponentMapper implements Mapper<Component> {
+public final class ComponentMapper extends LazyMapper<Component> {
 
     private @Nullable Object gsonComponentSerializerInstance;
     private @Nullable Method gsonComponentSerializerSerializeMethod;
     private @Nullable Method gsonComponentSerializerDeserializeMethod;
+    private @Nullable ComponentTreeMapper treeMapper;
+
+    private final @NotNull MappingCache<Component> cache;
+    private final @NotNull MappingCache<Style> styleCache;
+
+    /**
+     * Component mapper constructor.
+     */
+    public ComponentMapper() {
+        this(new MappingCache<>(), new MappingCache<>());
+    }
+
+    ComponentMapper(@NotNull MappingCache<Component> cache, @NotNull MappingCache<Style> styleCache) {
+        this.cache = cache;
+        this.styleCache = styleCache;
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> serializerClass = Class.forName(AdventureMapper.ORIGINAL_GSON_COMPONENT_SERIALIZER_CLASS_NAME);
         this.gsonComponentSerializerInstance = serializerClass.getMethod("gson").invoke(null);
         this.gsonComponentSerializerSerializeMethod = serializerClass.getMethod(
@@ -54,42 +73,77 @@ public final class ComponentMapper implements Mapper<Component> {
         this.gsonComponentSerializerDeserializeMethod = serializerClass.getMethod(
             "deserialize", Object.class
         );
+
+        try {
+            this.treeMapper = ComponentTreeMapper.create(new JsonFallback(), this.styleCache);
+        } catch (ReflectiveOperationException ex) {
+            // Unsupported Adventure version, fall back to JSON
+            this.treeMapper = null;
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean isLoaded() {
-        return this.gsonComponentSerializerInstance != null &&
-            this.gsonComponentSerializerSerializeMethod != null &&
-            this.gsonComponentSerializerDeserializeMethod != null;
+    public @NotNull Object map(@NotNull Component component) throws ReflectiveOperationException {
+        ensureLoaded();
+        Preconditions.checkNotNull("component", component);
+        return this.cache.get(component, this::mapUncached);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public @NotNull Object map(@NotNull Component component) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+    public @NotNull Component mapBackwards(@NotNull Object component) throws ReflectiveOperationException {
+        ensureLoaded();
         Preconditions.checkNotNull("component", component);
+        if (this.treeMapper != null) {
+            return this.treeMapper.mapBackwards(component);
+        }
+        return mapBackwardsJson(component);
+    }
+
+    private @NotNull Object mapUncached(@NotNull Component component) throws ReflectiveOperationException {
+        if (this.treeMapper != null) {
+            return this.treeMapper.map(component);
+        }
+        return mapJson(component);
+    }
+
+    private @NotNull Object mapJson(@NotNull Component component) throws ReflectiveOperationException {
         String json = GsonComponentSerializer.gson().serialize(component);
         return Objects.requireNonNull(this.gsonComponentSerializerDeserializeMethod).invoke(
             Objects.requireNonNull(this.gsonComponentSerializerInstance), json
         );
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public @NotNull Component mapBackwards(@NotNull Object component) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
-        Preconditions.checkNotNull("component", component);
+    private @NotNull Component mapBackwardsJson(@NotNull Object component) throws ReflectiveOperationException {
         Object json = Objects.requireNonNull(this.gsonComponentSerializerSerializeMethod).invoke(
             Objects.requireNonNull(this.gsonComponentSerializerInstance), component
         );
         return GsonComponentSerializer.gson().deserialize((String) json);
     }
 
+    private final class JsonFallback implements ComponentTreeMapper.Fallback {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Object map(@NotNull Component component) throws ReflectiveOperationException {
+            return mapJson(component);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Component mapBackwards(@NotNull Object component) throws ReflectiveOperationException {
+            return mapBackwardsJson(component);
+        }
+
+    }
+
 }
@@ -0,0 +1,615 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import dev.hypera.chameleon.util.internal.ReflectionUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.EntityNBTComponent;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.NBTComponentBuilder;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.intellij.lang.annotations.Subst;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Structural Adventure Component mapper.
+ *
+ * <p>Maps components by walking the component tree and rebuilding it on the other side using
+ * method handles, rather than serializing the whole component to JSON. Components that cannot be
+ * mapped structurally, such as block NBT components or unknown component types, are mapped using
+ * the JSON fallback instead.</p>
+ */
+final class ComponentTreeMapper {
+
+    private static final @NotNull TextDecoration @NotNull [] DECORATIONS = TextDecoration.values();
+    private static final @NotNull TextDecoration.State @NotNull [] STATES = TextDecoration.State.values();
+    private static final @NotNull ClickEvent.Action @NotNull [] CLICK_ACTIONS = ClickEvent.Action.values();
+
+    private final @NotNull Fallback fallback;
+    private final @NotNull MappingCache<Style> styleCache;
+
+    // Platform types
+    private final @NotNull Class<?> textComponentClass;
+    private final @NotNull Class<?> translatableComponentClass;
+    private final @NotNull Class<?> keybindComponentClass;
+    private final @NotNull Class<?> scoreComponentClass;
+    private final @NotNull Class<?> selectorComponentClass;
+    private final @Nullable Class<?> entityNbtComponentClass;
+    private final @Nullable Class<?> storageNbtComponentClass;
+    private final @NotNull Object emptyStyle;
+    private final @NotNull Object @NotNull [] decorations;
+    private final @NotNull Object @NotNull [] states;
+    private final @Nullable Object @NotNull [] clickActions;
+    private final @NotNull Object showTextAction;
+
+    // Forward handles, creating platform objects
+    private final @NotNull MethodHandle text;
+    private final @NotNull MethodHandle translatable;
+    private final @Nullable MethodHandle translatableFallback;
+    private final @NotNull MethodHandle keybind;
+    private final @NotNull MethodHandle score;
+    private final @NotNull MethodHandle selector;
+    private final @Nullable MethodHandle entityNbt;
+    private final @Nullable MethodHandle storageNbt;
+    private final @Nullable MethodHandle nbtInterpret;
+    private final @Nullable MethodHandle nbtSeparator;
+    private final @NotNull MethodHandle withStyle;
+    private final @NotNull MethodHandle withChildren;
+    private final @NotNull MethodHandle styleBuilder;
+    private final @NotNull MethodHandle styleBuilderColor;
+    private final @NotNull MethodHandle styleBuilderDecoration;
+    private final @NotNull MethodHandle styleBuilderClickEvent;
+    private final @NotNull MethodHandle styleBuilderHoverEvent;
+    private final @NotNull MethodHandle styleBuilderInsertion;
+    private final @NotNull MethodHandle styleBuilderFont;
+    private final @NotNull MethodHandle styleBuilderBuild;
+    private final @NotNull MethodHandle textColor;
+    private final @NotNull MethodHandle clickEvent;
+    private final @NotNull MethodHandle showText;
+    private final @NotNull MethodHandle key;
+
+    // Backward handles, reading platform objects
+    private final @NotNull MethodHandle getStyle;
+    private final @NotNull MethodHandle getChildren;
+    private final @NotNull MethodHandle getTextContent;
+    private final @NotNull MethodHandle getTranslatableKey;
+    private final @NotNull MethodHandle getTranslatableArgs;
+    private final @Nullable MethodHandle getTranslatableFallback;
+    private final @NotNull MethodHandle getKeybind;
+    private final @NotNull MethodHandle getScoreName;
+    private final @NotNull MethodHandle getScoreObjective;
+    private final @NotNull MethodHandle getSelectorPattern;
+    private final @NotNull MethodHandle getSelectorSeparator;
+    private final @Nullable MethodHandle getNbtPath;
+    private final @Nullable MethodHandle getNbtInterpret;
+    private final @Nullable MethodHandle getNbtSeparator;
+    private final @Nullable MethodHandle getEntityNbtSelector;
+    private final @Nullable MethodHandle getStorageNbtStorage;
+    private final @NotNull MethodHandle getStyleIsEmpty;
+    private final @NotNull MethodHandle getStyleColor;
+    private final @NotNull MethodHandle getStyleDecoration;
+    private final @NotNull MethodHandle getStyleClickEvent;
+    private final @NotNull MethodHandle getStyleHoverEvent;
+    private final @NotNull MethodHandle getStyleInsertion;
+    private final @NotNull MethodHandle getStyleFont;
+    private final @NotNull MethodHandle getTextColorValue;
+    private final @NotNull MethodHandle getClickEventAction;
+    private final @NotNull MethodHandle getClickEventValue;
+    private final @NotNull MethodHandle getHoverEventAction;
+    private final @NotNull MethodHandle getHoverEventValue;
+    private final @NotNull MethodHandle getKeyString;
+
+    private ComponentTreeMapper(@NotNull Fallback fallback, @NotNull MappingCache<Style> styleCache) throws ReflectiveOperationException {
+        this.fallback = fallback;
+        this.styleCache = styleCache;
+        String textPackage = AdventureMapper.ORIGINAL_PACKAGE.concat("text.");
+        Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+        Class<?> componentLikeClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_LIKE_CLASS_NAME);
+        Class<?> styleClass = Class.forName(textPackage.concat("format.Style"));
+        Class<?> styleBuilderClass = Class.forName(textPackage.concat("format.Style$Builder"));
+        Class<?> textColorClass = Class.forName(textPackage.concat("format.TextColor"));
+        Class<?> decorationClass = Class.forName(textPackage.concat("format.TextDecoration"));
+        Class<?> stateClass = Class.forName(textPackage.concat("format.TextDecoration$State"));
+        Class<?> clickEventClass = Class.forName(textPackage.concat("event.ClickEvent"));
+        Class<?> clickActionClass = Class.forName(textPackage.concat("event.ClickEvent$Action"));
+        Class<?> hoverEventClass = Class.forName(textPackage.concat("event.HoverEvent"));
+        Class<?> hoverEventSourceClass = Class.forName(textPackage.concat("event.HoverEventSource"));
+        Class<?> hoverActionClass = Class.forName(textPackage.concat("event.HoverEvent$Action"));
+        Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
+
+        this.textComponentClass = Class.forName(textPackage.concat("TextComponent"));
+        this.translatableComponentClass = Class.forName(textPackage.concat("TranslatableComponent"));
+        this.keybindComponentClass = Class.forName(textPackage.concat("KeybindComponent"));
+        this.scoreComponentClass = Class.forName(textPackage.concat("ScoreComponent"));
+        this.selectorComponentClass = Class.forName(textPackage.concat("SelectorComponent"));
+        Class<?> nbtComponentClass = findClass(textPackage.concat("NBTComponent"));
+        this.entityNbtComponentClass = findClass(textPackage.concat("EntityNBTComponent"));
+        this.storageNbtComponentClass = findClass(textPackage.concat("StorageNBTComponent"));
+
+        this.emptyStyle = styleClass.getMethod("empty").invoke(null);
+        this.decorations = enumConstants(decorationClass, DECORATIONS, true);
+        this.states = enumConstants(stateClass, STATES, true);
+        this.clickActions = enumConstants(clickActionClass, CLICK_ACTIONS, false);
+        this.showTextAction = hoverActionClass.getField("SHOW_TEXT").get(null);
+
+        this.text = handle(componentClass, "text", String.class, styleClass);
+        this.translatable = handle(componentClass, "translatable", String.class, styleClass, List.class);
+        this.translatableFallback = findHandle(this.translatableComponentClass, "fallback", String.class);
+        this.keybind = handle(componentClass, "keybind", String.class, styleClass);
+        this.score = handle(componentClass, "score", String.class, String.class);
+        this.selector = handle(componentClass, "selector", String.class, componentLikeClass);
+        this.entityNbt = findHandle(componentClass, "entityNBT", String.class, String.class);
+        this.storageNbt = findHandle(componentClass, "storageNBT", String.class, keyClass);
+        this.nbtInterpret = nbtComponentClass == null ? null : findHandle(nbtComponentClass, "interpret", boolean.class);
+        this.nbtSeparator = nbtComponentClass == null ? null : findHandle(nbtComponentClass, "separator", componentLikeClass);
+        this.withStyle = handle(componentClass, "style", styleClass);
+        this.withChildren = handle(componentClass, "children", List.class);
+        this.styleBuilder = handle(styleClass, "style");
+        this.styleBuilderColor = handle(styleBuilderClass, "color", textColorClass);
+        this.styleBuilderDecoration = handle(styleBuilderClass, "decoration", decorationClass, stateClass);
+        this.styleBuilderClickEvent = handle(styleBuilderClass, "clickEvent", clickEventClass);
+        this.styleBuilderHoverEvent = handle(styleBuilderClass, "hoverEvent", hoverEventSourceClass);
+        this.styleBuilderInsertion = handle(styleBuilderClass, "insertion", String.class);
+        this.styleBuilderFont = handle(styleBuilderClass, "font", keyClass);
+        this.styleBuilderBuild = handle(styleBuilderClass, "build");
+        this.textColor = handle(textColorClass, "color", int.class);
+        this.clickEvent = handle(clickEventClass, "clickEvent", clickActionClass, String.class);
+        this.showText = handle(hoverEventClass, "showText", componentClass);
+        this.key = handle(keyClass, "key", String.class);
+
+        this.getStyle = handle(componentClass, "style");
+        this.getChildren = handle(componentClass, "children");
+        this.getTextContent = handle(this.textComponentClass, "content");
+        this.getTranslatableKey = handle(this.translatableComponentClass, "key");
+        this.getTranslatableArgs = handle(this.translatableComponentClass, "args");
+        this.getTranslatableFallback = findHandle(this.translatableComponentClass, "fallback");
+        this.getKeybind = handle(this.keybindComponentClass, "keybind");
+        this.getScoreName = handle(this.scoreComponentClass, "name");
+        this.getScoreObjective = handle(this.scoreComponentClass, "objective");
+        this.getSelectorPattern = handle(this.selectorComponentClass, "pattern");
+        this.getSelectorSeparator = handle(this.selectorComponentClass, "separator");
+        this.getNbtPath = nbtComponentClass == null ? null : findHandle(nbtComponentClass, "nbtPath");
+        this.getNbtInterpret = nbtComponentClass == null ? null : findHandle(nbtComponentClass, "interpret");
+        this.getNbtSeparator = nbtComponentClass == null ? null : findHandle(nbtComponentClass, "separator");
+        this.getEntityNbtSelector = this.entityNbtComponentClass == null ? null : findHandle(this.entityNbtComponentClass, "selector");
+        this.getStorageNbtStorage = this.storageNbtComponentClass == null ? null : findHandle(this.storageNbtComponentClass, "storage");
+        this.getStyleIsEmpty = handle(styleClass, "isEmpty");
+        this.getStyleColor = handle(styleClass, "color");
+        this.getStyleDecoration = handle(styleClass, "decoration", decorationClass);
+        this.getStyleClickEvent = handle(styleClass, "clickEvent");
+        this.getStyleHoverEvent = handle(styleClass, "hoverEvent");
+        this.getStyleInsertion = handle(styleClass, "insertion");
+        this.getStyleFont = handle(styleClass, "font");
+        this.getTextColorValue = handle(textColorClass, "value");
+        this.getClickEventAction = handle(clickEventClass, "action");
+        this.getClickEventValue = handle(clickEventClass, "value");
+        this.getHoverEventAction = handle(hoverEventClass, "action");
+        this.getHoverEventValue = handle(hoverEventClass, "value");
+        this.getKeyString = handle(keyClass, "asString");
+    }
+
+    /**
+     * Creates a new structural component mapper for the platform's Adventure version.
+     *
+     * @param fallback   JSON fallback, used for components that cannot be mapped structurally.
+     * @param styleCache Cache of mapped styles.
+     *
+     * @return new component tree mapper.
+     * @throws ReflectiveOperationException if the platform's Adventure version is not supported.
+     */
+    static @NotNull ComponentTreeMapper create(@NotNull Fallback fallback, @NotNull MappingCache<Style> styleCache) throws ReflectiveOperationException {
+        return new ComponentTreeMapper(fallback, styleCache);
+    }
+
+    /**
+     * Maps the given component to a platform component.
+     *
+     * @param component Component to map.
+     *
+     * @return platform component.
+     * @throws ReflectiveOperationException if the component could not be mapped.
+     */
+    @NotNull Object map(@NotNull Component component) throws ReflectiveOperationException {
+        try {
+            return mapComponent(component);
+        } catch (ReflectiveOperationException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * Maps the given platform component to a component.
+     *
+     * @param component Platform component to map.
+     *
+     * @return component.
+     * @throws ReflectiveOperationException if the component could not be mapped.
+     */
+    @NotNull Component mapBackwards(@NotNull Object component) throws ReflectiveOperationException {
+        try {
+            return mapComponentBackwards(component);
+        } catch (ReflectiveOperationException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    @SuppressWarnings("deprecation") // ScoreComponent#value
+    private @NotNull Object mapComponent(@NotNull Component component) throws Throwable {
+        Object mapped;
+        try {
+            if (component instanceof TextComponent) {
+                mapped = this.text.invokeExact(((TextComponent) component).content(), mapStyle(component.style()));
+            } else if (component instanceof TranslatableComponent) {
+                mapped = mapTranslatable((TranslatableComponent) component);
+            } else if (component instanceof KeybindComponent) {
+                mapped = this.keybind.invokeExact(((KeybindComponent) component).keybind(), mapStyle(component.style()));
+            } else if (component instanceof ScoreComponent && ((ScoreComponent) component).value() == null) {
+                ScoreComponent score = (ScoreComponent) component;
+                mapped = withStyle(this.score.invokeExact(score.name(), score.objective()), component.style());
+            } else if (component instanceof SelectorComponent) {
+                SelectorComponent selector = (SelectorComponent) component;
+                mapped = withStyle(this.selector.invokeExact(selector.pattern(), mapNullable(selector.separator())), component.style());
+            } else if (component instanceof EntityNBTComponent && this.entityNbt != null) {
+                EntityNBTComponent nbt = (EntityNBTComponent) component;
+                mapped = withNbt(this.entityNbt.invokeExact(nbt.nbtPath(), nbt.selector()), nbt);
+            } else if (component instanceof StorageNBTComponent && this.storageNbt != null) {
+                StorageNBTComponent nbt = (StorageNBTComponent) component;
+                mapped = withNbt(this.storageNbt.invokeExact(nbt.nbtPath(), mapKey(nbt.storage())), nbt);
+            } else {
+                return this.fallback.map(component);
+            }
+        } catch (UnsupportedException ex) {
+            return this.fallback.map(component);
+        }
+
+        List<Component> children = component.children();
+        if (children.isEmpty()) {
+            return mapped;
+        }
+
+        List<Object> mappedChildren = new ArrayList<>(children.size());
+        for (Component child : children) {
+            mappedChildren.add(mapComponent(child));
+        }
+        return this.withChildren.invokeExact(mapped, mappedChildren);
+    }
+
+    private @NotNull Object mapTranslatable(@NotNull TranslatableComponent component) throws Throwable {
+        List<TranslationArgument> arguments = component.arguments();
+        List<Object> mappedArguments = arguments.isEmpty() ? Collections.emptyList() : new ArrayList<>(arguments.size());
+        for (TranslationArgument argument : arguments) {
+            if (!(argument.value() instanceof Component)) {
+                throw UnsupportedException.INSTANCE;
+            }
+            mappedArguments.add(mapComponent((Component) argument.value()));
+        }
+
+        Object mapped = this.translatable.invokeExact(component.key(), mapStyle(component.style()), mappedArguments);
+        String fallback = component.fallback();
+        if (fallback != null) {
+            if (this.translatableFallback == null) {
+                throw UnsupportedException.INSTANCE;
+            }
+            mapped = this.translatableFallback.invokeExact(mapped, fallback);
+        }
+        return mapped;
+    }
+
+    private @NotNull Object withNbt(@NotNull Object mapped, @NotNull NBTComponent<?, ?> component) throws Throwable {
+        if (this.nbtInterpret == null || this.nbtSeparator == null) {
+            throw UnsupportedException.INSTANCE;
+        }
+
+        if (component.interpret()) {
+            mapped = this.nbtInterpret.invokeExact(mapped, true);
+        }
+        Component separator = component.separator();
+        if (separator != null) {
+            mapped = this.nbtSeparator.invokeExact(mapped, mapComponent(separator));
+        }
+        return withStyle(mapped, component.style());
+    }
+
+    private @NotNull Object withStyle(@NotNull Object mapped, @NotNull Style style) throws Throwable {
+        return style.isEmpty() ? mapped : this.withStyle.invokeExact(mapped, mapStyle(style));
+    }
+
+    private @Nullable Object mapNullable(@Nullable Component component) throws Throwable {
+        return component == null ? null : mapComponent(component);
+    }
+
+    private @NotNull Object mapStyle(@NotNull Style style) throws Throwable {
+        if (style.isEmpty()) {
+            return this.emptyStyle;
+        }
+        return this.styleCache.get(style, this::mapStyleUncached);
+    }
+
+    private @NotNull Object mapStyleUncached(@NotNull Style style) throws Throwable {
+        Object builder = this.styleBuilder.invokeExact();
+        TextColor color = style.color();
+        if (color != null) {
+            builder = this.styleBuilderColor.invokeExact(builder, this.textColor.invokeExact(color.value()));
+        }
+
+        for (TextDecoration decoration : DECORATIONS) {
+            TextDecoration.State state = style.decoration(decoration);
+            if (state != TextDecoration.State.NOT_SET) {
+                builder = this.styleBuilderDecoration.invokeExact(builder, this.decorations[decoration.ordinal()], this.states[state.ordinal()]);
+            }
+        }
+
+        ClickEvent click = style.clickEvent();
+        if (click != null) {
+            Object action = this.clickActions[click.action().ordinal()];
+            if (action == null) {
+                throw UnsupportedException.INSTANCE;
+            }
+            builder = this.styleBuilderClickEvent.invokeExact(builder, this.clickEvent.invokeExact(action, click.value()));
+        }
+
+        HoverEvent<?> hover = style.hoverEvent();
+        if (hover != null) {
+            if (hover.action() != HoverEvent.Action.SHOW_TEXT) {
+                throw UnsupportedException.INSTANCE;
+            }
+            builder = this.styleBuilderHoverEvent.invokeExact(builder, this.showText.invokeExact(mapComponent((Component) hover.value())));
+        }
+
+        String insertion = style.insertion();
+        if (insertion != null) {
+            builder = this.styleBuilderInsertion.invokeExact(builder, insertion);
+        }
+
+        Key font = style.font();
+        if (font != null) {
+            builder = this.styleBuilderFont.invokeExact(builder, mapKey(font));
+        }
+
+        return this.styleBuilderBuild.invokeExact(builder);
+    }
+
+    private @NotNull Object mapKey(@NotNull Key key) throws Throwable {
+        return this.key.invokeExact(key.asString());
+    }
+
+    private @NotNull Component mapComponentBackwards(@NotNull Object component) throws Throwable {
+        Component mapped;
+        try {
+            if (this.textComponentClass.isInstance(component)) {
+                mapped = Component.text((String) this.getTextContent.invokeExact(component), mapStyleBackwards(component));
+            } else if (this.translatableComponentClass.isInstance(component)) {
+                mapped = mapTranslatableBackwards(component);
+            } else if (this.keybindComponentClass.isInstance(component)) {
+                mapped = Component.keybind((String) this.getKeybind.invokeExact(component), mapStyleBackwards(component));
+            } else if (this.scoreComponentClass.isInstance(component)) {
+                mapped = Component.score((String) this.getScoreName.invokeExact(component), (String) this.getScoreObjective.invokeExact(component))
+                    .style(mapStyleBackwards(component));
+            } else if (this.selectorComponentClass.isInstance(component)) {
+                Object separator = this.getSelectorSeparator.invokeExact(component);
+                mapped = Component.selector((String) this.getSelectorPattern.invokeExact(component), separator == null ? null : mapComponentBackwards(separator))
+                    .style(mapStyleBackwards(component));
+            } else if (this.entityNbtComponentClass != null && this.entityNbtComponentClass.isInstance(component) && this.getEntityNbtSelector != null) {
+                EntityNBTComponent nbt = Component.entityNBT((String) nbtHandle(this.getNbtPath).invokeExact(component), (String) this.getEntityNbtSelector.invokeExact(component));
+                mapped = withNbtBackwards(nbt, component);
+            } else if (this.storageNbtComponentClass != null && this.storageNbtComponentClass.isInstance(component) && this.getStorageNbtStorage != null) {
+                StorageNBTComponent nbt = Component.storageNBT((String) nbtHandle(this.getNbtPath).invokeExact(component), mapKeyBackwards(this.getStorageNbtStorage.invokeExact(component)));
+                mapped = withNbtBackwards(nbt, component);
+            } else {
+                return this.fallback.mapBackwards(component);
+            }
+        } catch (UnsupportedException ex) {
+            return this.fallback.mapBackwards(component);
+        }
+
+        List<?> children = (List<?>) this.getChildren.invokeExact(component);
+        if (children.isEmpty()) {
+            return mapped;
+        }
+
+        List<Component> mappedChildren = new ArrayList<>(children.size());
+        for (Object child : children) {
+            mappedChildren.add(mapComponentBackwards(child));
+        }
+        return mapped.children(mappedChildren);
+    }
+
+    private @NotNull Component mapTranslatableBackwards(@NotNull Object component) throws Throwable {
+        List<?> arguments = (List<?>) this.getTranslatableArgs.invokeExact(component);
+        List<Component> mappedArguments = arguments.isEmpty() ? Collections.emptyList() : new ArrayList<>(arguments.size());
+        for (Object argument : arguments) {
+            mappedArguments.add(mapComponentBackwards(argument));
+        }
+
+        String fallback = this.getTranslatableFallback == null ? null : (String) this.getTranslatableFallback.invokeExact(component);
+        return Component.translatable((String) this.getTranslatableKey.invokeExact(component), fallback, mapStyleBackwards(component), mappedArguments);
+    }
+
+    private <C extends NBTComponent<C, B>, B extends NBTComponentBuilder<C, B>> @NotNull Component withNbtBackwards(@NotNull C mapped, @NotNull Object component) throws Throwable {
+        Object separator = nbtHandle(this.getNbtSeparator).invokeExact(component);
+        return mapped.interpret((boolean) nbtHandle(this.getNbtInterpret).invokeExact(component))
+            .separator(separator == null ? null : mapComponentBackwards(separator))
+            .style(mapStyleBackwards(component));
+    }
+
+    private @NotNull Style mapStyleBackwards(@NotNull Object component) throws Throwable {
+        Object style = this.getStyle.invokeExact(component);
+        if ((boolean) this.getStyleIsEmpty.invokeExact(style)) {
+            return Style.empty();
+        }
+
+        Style.Builder builder = Style.style();
+        Object color = this.getStyleColor.invokeExact(style);
+        if (color != null) {
+            builder.color(TextColor.color((int) this.getTextColorValue.invokeExact(color)));
+        }
+
+        for (TextDecoration decoration : DECORATIONS) {
+            Object state = this.getStyleDecoration.invokeExact(style, this.decorations[decoration.ordinal()]);
+            builder.decoration(decoration, STATES[((Enum<?>) state).ordinal()]);
+        }
+
+        Object click = this.getStyleClickEvent.invokeExact(style);
+        if (click != null) {
+            Object action = this.getClickEventAction.invokeExact(click);
+            builder.clickEvent(ClickEvent.clickEvent(mapClickActionBackwards(action), (String) this.getClickEventValue.invokeExact(click)));
+        }
+
+        Object hover = this.getStyleHoverEvent.invokeExact(style);
+        if (hover != null) {
+            if (this.getHoverEventAction.invokeExact(hover) != this.showTextAction) {
+                throw UnsupportedException.INSTANCE;
+            }
+            builder.hoverEvent(HoverEvent.showText(mapComponentBackwards(this.getHoverEventValue.invokeExact(hover))));
+        }
+
+        builder.insertion((String) this.getStyleInsertion.invokeExact(style));
+        Object font = this.getStyleFont.invokeExact(style);
+        if (font != null) {
+            builder.font(mapKeyBackwards(font));
+        }
+
+        return builder.build();
+    }
+
+    private @NotNull ClickEvent.Action mapClickActionBackwards(@NotNull Object action) throws UnsupportedException {
+        for (int i = 0; i < this.clickActions.length; i++) {
+            if (this.clickActions[i] == action) {
+                return CLICK_ACTIONS[i];
+            }
+        }
+        // Platform-only action, leave it to the serializer fallback
+        throw UnsupportedException.INSTANCE;
+    }
+
+    private @NotNull Key mapKeyBackwards(@NotNull Object key) throws Throwable {
+        @Subst("key") String str = (String) this.getKeyString.invokeExact(key);
+        return Key.key(str);
+    }
+
+    private static @NotNull MethodHandle nbtHandle(@Nullable MethodHandle handle) throws UnsupportedException {
+        if (handle == null) {
+            throw UnsupportedException.INSTANCE;
+        }
+        return handle;
+    }
+
+    private static @Nullable Class<?> findClass(@NotNull String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+    }
+
+    private static @NotNull MethodHandle handle(@NotNull Class<?> type, @NotNull String name, @NotNull Class<?> @NotNull ... parameters) throws ReflectiveOperationException {
+        return ReflectionUtil.findHandle(type, name, parameters);
+    }
+
+    private static @Nullable MethodHandle findHandle(@NotNull Class<?> type, @NotNull String name, @NotNull Class<?> @NotNull ... parameters) {
+        try {
+            return handle(type, name, parameters);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+
+    private static @Nullable Object @NotNull [] enumConstants(@NotNull Class<?> type, @NotNull Enum<?> @NotNull [] values, boolean required) throws ReflectiveOperationException {
+        Object[] constants = new Object[values.length];
+        for (Enum<?> value : values) {
+            try {
+                constants[value.ordinal()] = type.getField(value.name()).get(null);
+            } catch (NoSuchFieldException ex) {
+                if (required) {
+                    throw ex;
+                }
+            }
+        }
+        return constants;
+    }
+
+    /**
+     * JSON fallback, used for components that cannot be mapped structurally.
+     */
+    interface Fallback {
+
+        /**
+         * Map the given component to a platform component using JSON.
+         *
+         * @param component Component to map.
+         *
+         * @return platform component.
+         * @throws ReflectiveOperationException if the component could not be mapped.
+         */
+        @NotNull Object map(@NotNull Component component) throws ReflectiveOperationException;
+
+        /**
+         * Map the given platform component to a component using JSON.
+         *
+         * @param component Platform component to map.
+         *
+         * @return component.
+         * @throws ReflectiveOperationException if the component could not be mapped.
+         */
+        @NotNull Component mapBackwards(@NotNull Object component) throws ReflectiveOperationException;
+
+    }
+
+    /**
+     * Thrown when a component cannot be mapped structurally.
+     */
+    private static final class UnsupportedException extends Exception {
+
+        private static final long serialVersionUID = 5040256468512063578L;
+        private static final @NotNull UnsupportedException INSTANCE = new UnsupportedException();
+
+        private UnsupportedException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
@@ -24,22 +24,25 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Enum mapper.
  *
+ * <p>Constants are matched by name when the mapper is loaded, after which mapping in either
+ * direction is a lookup by ordinal.</p>
+ *
  * @param <E> Enum type.
  */
 public final class EnumMapper<E extends Enum<E>> implements Mapper<E> {
 
     private final @NotNull Class<E> clazz;
     private final @NotNull Class<?> platformClass;
-    private @Nullable Method nameMethod;
-    private @Nullable Method valueOfMethod;
+    private @Nullable Object @Nullable [] platformConstants;
+    private @Nullable E @Nullable [] constants;
 
     /**
      * Enum mapper constructor.
@@ -69,12 +72,37 @@ public final class EnumMapper<E extends Enum<E>> implements Mapper<E> {
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Constants that only exist in one of the enums, for example because the platform's copy
+     * of Adventure is older, are left unmapped and fail when they are mapped.</p>
+     *
+     * @throws IllegalArgumentException if the platform class is not an enum.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
-        this.nameMethod = this.platformClass.getMethod("name");
-        this.valueOfMethod = this.platformClass.getMethod("valueOf", String.class);
+        Object[] platformValues = this.platformClass.getEnumConstants();
+        Preconditions.checkArgument(platformValues != null, "platformClass must be an enum");
+
+        Map<String, E> byName = new HashMap<>();
+        for (E value : this.clazz.getEnumConstants()) {
+            byName.put(value.name(), value);
+        }
+
+        Object[] forwards = new Object[byName.size()];
+        E[] backwards = (E[]) new Enum<?>[platformValues.length];
+        for (Object platformValue : platformValues) {
+            Enum<?> platformEnum = (Enum<?>) platformValue;
+            E value = byName.get(platformEnum.name());
+            if (value != null) {
+                forwards[value.ordinal()] = platformEnum;
+                backwards[platformEnum.ordinal()] = value;
+            }
+        }
+
+        this.platformConstants = forwards;
+        this.constants = backwards;
     }
 
     /**
@@ -82,27 +110,47 @@ public final class EnumMapper<E extends Enum<E>> implements Mapper<E> {
      */
     @Override
     public boolean isLoaded() {
-        return this.nameMethod != null && this.valueOfMethod != null;
+        return this.platformConstants != null && this.constants != null;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the platform enum does not contain the constant.
      */
     @Override
     public @NotNull Object map(@NotNull E e) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Object[] platformConstants = this.platformConstants;
+        Preconditions.checkState(platformConstants != null, "mapper has not been loaded");
         Preconditions.checkNotNull("e", e);
-        return Objects.requireNonNull(this.valueOfMethod).invoke(null, e.name());
+
+        Object mapped = platformConstants[e.ordinal()];
+        if (mapped == null) {
+            throw new IllegalArgumentException("No platform constant " + this.platformClass.getName() + "." + e.name());
+        }
+        return mapped;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the given object is not a platform enum constant, or
+     *                                  if the enum does not contain the constant.
      */
     @Override
     public @NotNull E mapBackwards(@NotNull Object e) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        E[] constants = this.constants;
+        Preconditions.checkState(constants != null, "mapper has not been loaded");
         Preconditions.checkNotNull("e", e);
-        return Enum.valueOf(this.clazz, (String) Objects.requireNonNull(this.nameMethod).invoke(e));
+        if (!this.platformClass.isInstance(e)) {
+            throw new IllegalArgumentException(e.getClass().getName() + " is not a " + this.platformClass.getName());
+        }
+
+        E mapped = constants[((Enum<?>) e).ordinal()];
+        if (mapped == null) {
+            throw new IllegalArgumentException("No enum constant " + this.clazz.getCanonicalName() + "." + ((Enum<?>) e).name());
+        }
+        return mapped;
     }
 
 }
@@ -34,7 +34,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure Identity mapper.
  */
-public final class IdentityMapper implements Mapper<Identity> {
+public final class IdentityMapper extends LazyMapper<Identity> {
 
     private @Nullable Method identityCreateMethod;
     private @Nullable Method identityUuidMethod;
@@ -43,27 +43,18 @@ public final class IdentityMapper implements Mapper<Identity> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> identityClass = Class.forName(AdventureMapper.ORIGINAL_IDENTITY_CLASS_NAME);
         this.identityCreateMethod = identityClass.getMethod("identity", UUID.class);
         this.identityUuidMethod = identityClass.getMethod("uuid");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.identityUuidMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull Identity identity) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("identity", identity);
         return Objects.requireNonNull(this.identityCreateMethod).invoke(null, identity.uuid());
     }
@@ -73,7 +64,7 @@ public final class IdentityMapper implements Mapper<Identity> {
      */
     @Override
     public @NotNull Identity mapBackwards(@NotNull Object identity) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("identity", identity);
         return Identity.identity((UUID) Objects.requireNonNull(this.identityUuidMethod).invoke(identity));
     }
@@ -34,28 +34,32 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure Key mapper.
  */
-public final class KeyMapper implements Mapper<Key> {
+public final class KeyMapper extends LazyMapper<Key> {
 
     private @Nullable Method keyCreateMethod;
     private @Nullable Method keyAsStringMethod;
 
+    private final @NotNull MappingCache<Key> cache;
+
     /**
-     * {@inheritDoc}
+     * Key mapper constructor.
      */
-    @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
-        Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
-        this.keyCreateMethod = keyClass.getMethod("key", String.class);
-        this.keyAsStringMethod = keyClass.getMethod("asString");
+    public KeyMapper() {
+        this(new MappingCache<>());
+    }
+
+    KeyMapper(@NotNull MappingCache<Key> cache) {
+        this.cache = cache;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean isLoaded() {
-        return this.keyCreateMethod != null && this.keyAsStringMethod != null;
+    protected void resolve() throws ReflectiveOperationException {
+        Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
+        this.keyCreateMethod = keyClass.getMethod("key", String.class);
+        this.keyAsStringMethod = keyClass.getMethod("asString");
     }
 
     /**
@@ -63,9 +67,9 @@ public final class KeyMapper implements Mapper<Key> {
      */
     @Override
     public @NotNull Object map(@NotNull Key key) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("key", key);
-        return Objects.requireNonNull(this.keyCreateMethod).invoke(null, key.asString());
+        return this.cache.get(key, k -> Objects.requireNonNull(this.keyCreateMethod).invoke(null, k.asString()));
     }
 
     /**
@@ -73,7 +77,7 @@ public final class KeyMapper implements Mapper<Key> {
      */
     @Override
     public @NotNull Key mapBackwards(@NotNull Object key) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("key", key);
         @Subst("key") String str = (String) Objects.requireNonNull(this.keyAsStringMethod).invoke(key);
         return Key.key(str);
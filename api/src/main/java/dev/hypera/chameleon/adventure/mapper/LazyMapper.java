@@ -0,0 +1,117 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import dev.hypera.chameleon.util.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Adventure mapper that resolves its platform classes and methods on first use.
+ *
+ * <p>Resolution happens at most once, under a lock, and is published through a volatile flag, so
+ * mapping does not acquire any locks once the mapper has been resolved. A failed resolution is
+ * cached rather than retried on every use, later uses throw a new exception caused by it.</p>
+ *
+ * @param <T> Object type.
+ */
+abstract class LazyMapper<T> implements Mapper<T> {
+
+    private final Object lock = new Object();
+    private volatile boolean loaded = false;
+    private volatile @Nullable ReflectiveOperationException failure;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void load() throws ReflectiveOperationException {
+        Preconditions.checkState(!this.loaded, "mapper has already been loaded");
+        ensureLoaded();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean isLoaded() {
+        return this.loaded;
+    }
+
+    /**
+     * Resolve the platform classes and methods used by this mapper, if they have not already been
+     * resolved.
+     *
+     * @throws ReflectiveOperationException if the platform classes or methods could not be
+     *                                      resolved, now or on an earlier attempt.
+     */
+    protected final void ensureLoaded() throws ReflectiveOperationException {
+        if (!this.loaded) {
+            ReflectiveOperationException failure = this.failure;
+            if (failure != null) {
+                throw resolveFailed(failure);
+            }
+
+            synchronized (this.lock) {
+                failure = this.failure;
+                if (failure != null) {
+                    throw resolveFailed(failure);
+                }
+                if (!this.loaded) {
+                    try {
+                        resolve();
+                    } catch (ReflectiveOperationException ex) {
+                        this.failure = ex;
+                        throw ex;
+                    }
+                    this.loaded = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolve the platform classes and methods used by this mapper.
+     *
+     * <p>This is called at most once, by {@link #ensureLoaded()}.</p>
+     *
+     * @throws ReflectiveOperationException if the platform classes or methods could not be
+     *                                      resolved.
+     */
+    protected abstract void resolve() throws ReflectiveOperationException;
+
+    /**
+     * Create the exception thrown when resolution failed on an earlier attempt.
+     * <p>A new exception is created on each call, so that it carries the current caller's stack
+     * trace, with the original failure as its cause.</p>
+     *
+     * @param failure Original failure.
+     *
+     * @return new exception.
+     */
+    private static @NotNull ReflectiveOperationException resolveFailed(@NotNull ReflectiveOperationException failure) {
+        return new ReflectiveOperationException("Resolution failed on an earlier attempt", failure);
+    }
+
+}
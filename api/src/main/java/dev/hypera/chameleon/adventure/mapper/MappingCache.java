@@ -0,0 +1,234 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import dev.hypera.chameleon.util.internal.ChameleonProperty;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded cache of mapped Adventure objects.
+ *
+ * <p>Objects are looked up by identity first, and then by equality, so that both the same
+ * instance and equal instances can reuse a previously mapped object. Keys are weakly referenced,
+ * meaning that they do not prevent the original objects from being garbage collected. The maximum
+ * number of entries is set by {@link ChameleonProperty#ADVENTURE_CACHE_SIZE}.</p>
+ *
+ * @param <K> Key type.
+ */
+public final class MappingCache<K> {
+
+    private final @NotNull ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final @NotNull Map<Object, Object> identity = new ConcurrentHashMap<>();
+    private final @NotNull Map<Object, Object> equality = new ConcurrentHashMap<>();
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+
+    MappingCache() {
+
+    }
+
+    /**
+     * Returns the mapped object for the given key, mapping and caching it if it has not already
+     * been mapped.
+     *
+     * @param key     Key to look up.
+     * @param mapping Mapping function, used if the key has not already been mapped.
+     * @param <X>     Exception type thrown by the mapping function.
+     *
+     * @return mapped object.
+     * @throws X if the mapping function throws an exception.
+     */
+    <X extends Throwable> @NotNull Object get(@NotNull K key, @NotNull Mapping<K, X> mapping) throws X {
+        int maximumSize = ChameleonProperty.ADVENTURE_CACHE_SIZE.get();
+        if (maximumSize <= 0) {
+            return mapping.map(key);
+        }
+
+        expungeStaleEntries();
+        Object value = this.identity.get(new Lookup(key, true));
+        if (value == null) {
+            value = this.equality.get(new Lookup(key, false));
+            if (value == null) {
+                this.misses.increment();
+                value = mapping.map(key);
+                put(this.equality, new WeakKey(key, false, this.queue), value, maximumSize);
+            } else {
+                this.hits.increment();
+            }
+            put(this.identity, new WeakKey(key, true, this.queue), value, maximumSize);
+        } else {
+            this.hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Get the number of lookups that returned a previously mapped object.
+     *
+     * @return cache hits.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that required the object to be mapped.
+     *
+     * @return cache misses.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Get the number of distinct objects currently cached.
+     *
+     * @return cache size.
+     */
+    public int size() {
+        expungeStaleEntries();
+        return this.equality.size();
+    }
+
+    /**
+     * Remove all cached objects.
+     */
+    public void clear() {
+        this.identity.clear();
+        this.equality.clear();
+    }
+
+    private void put(@NotNull Map<Object, Object> map, @NotNull WeakKey key, @NotNull Object value, int maximumSize) {
+        if (map.size() >= maximumSize) {
+            // Evict a quarter of the entries at once, so that eviction is not repeated on every put
+            Iterator<Object> iterator = map.keySet().iterator();
+            for (int i = Math.max(1, maximumSize / 4); i > 0 && iterator.hasNext(); i--) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        map.put(key, value);
+    }
+
+    private void expungeStaleEntries() {
+        Reference<?> reference;
+        while ((reference = this.queue.poll()) != null) {
+            WeakKey key = (WeakKey) reference;
+            (key.identity ? this.identity : this.equality).remove(key);
+        }
+    }
+
+    private static boolean matches(@NotNull Object key, @Nullable Object other, boolean identity) {
+        return identity ? key == other : key.equals(other);
+    }
+
+    /**
+     * Mapping function.
+     *
+     * @param <K> Key type.
+     * @param <X> Exception type.
+     */
+    @FunctionalInterface
+    interface Mapping<K, X extends Throwable> {
+
+        /**
+         * Map the given key.
+         *
+         * @param key Key to map.
+         *
+         * @return mapped object.
+         * @throws X if the key could not be mapped.
+         */
+        @NotNull Object map(@NotNull K key) throws X;
+
+    }
+
+    private static final class WeakKey extends WeakReference<Object> {
+
+        private final boolean identity;
+        private final int hash;
+
+        WeakKey(@NotNull Object referent, boolean identity, @NotNull ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.identity = identity;
+            this.hash = identity ? System.identityHashCode(referent) : referent.hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Lookup) {
+                return obj.equals(this);
+            }
+            if (!(obj instanceof WeakKey) || ((WeakKey) obj).identity != this.identity) {
+                return false;
+            }
+
+            Object referent = get();
+            return referent != null && matches(referent, ((WeakKey) obj).get(), this.identity);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    private static final class Lookup {
+
+        private final @NotNull Object key;
+        private final boolean identity;
+        private final int hash;
+
+        Lookup(@NotNull Object key, boolean identity) {
+            this.key = key;
+            this.identity = identity;
+            this.hash = identity ? System.identityHashCode(key) : key.hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof WeakKey && ((WeakKey) obj).identity == this.identity
+                && matches(this.key, ((WeakKey) obj).get(), this.identity);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
@@ -25,17 +25,23 @@ package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import net.kyori.adventure.pointer.Pointer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Adventure Pointer mapper.
+ *
+ * <p>Pointers are usually constants, so each pointer is only mapped once and then looked up in a
+ * table of mapped pointers.</p>
  */
-public final class PointerMapper implements Mapper<Pointer<?>> {
+public final class PointerMapper extends LazyMapper<Pointer<?>> {
 
     private final @NotNull KeyMapper keyMapper;
+    private final @NotNull Map<Pointer<?>, Object> mapped = new ConcurrentHashMap<>();
     private @Nullable Method pointerCreateMethod;
     private @Nullable Method pointerTypeMethod;
     private @Nullable Method pointerKeyMethod;
@@ -48,8 +54,7 @@ public final class PointerMapper implements Mapper<Pointer<?>> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> pointerClass = Class.forName(AdventureMapper.ORIGINAL_POINTER_CLASS_NAME);
         Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
         this.pointerCreateMethod = pointerClass.getMethod("pointer", Class.class, keyClass);
@@ -57,26 +62,23 @@ public final class PointerMapper implements Mapper<Pointer<?>> {
         this.pointerKeyMethod = pointerClass.getMethod("key");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.keyMapper.isLoaded() &&
-            this.pointerCreateMethod != null &&
-            this.pointerTypeMethod != null &&
-            this.pointerKeyMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull Pointer<?> pointer) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("pointer", pointer);
-        return Objects.requireNonNull(this.pointerCreateMethod).invoke(
-            null, pointer.type(), this.keyMapper.map(pointer.key()));
+        Object platformPointer = this.mapped.get(pointer);
+        if (platformPointer == null) {
+            platformPointer = Objects.requireNonNull(this.pointerCreateMethod).invoke(
+                null, pointer.type(), this.keyMapper.map(pointer.key()));
+            Object existing = this.mapped.putIfAbsent(pointer, platformPointer);
+            if (existing != null) {
+                platformPointer = existing;
+            }
+        }
+        return platformPointer;
     }
 
     /**
@@ -84,7 +86,7 @@ public final class PointerMapper implements Mapper<Pointer<?>> {
      */
     @Override
     public @NotNull Pointer<?> mapBackwards(@NotNull Object pointer) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("pointer", pointer);
         return Pointer.pointer(
             (Class<?>) Objects.requireNonNull(this.pointerTypeMethod).invoke(pointer),
@@ -33,7 +33,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure Signature mapper.
  */
-public final class SignatureMapper implements Mapper<SignedMessage.Signature> {
+public final class SignatureMapper extends LazyMapper<SignedMessage.Signature> {
 
     private @Nullable Method signedMessageSignatureMethod;
     private @Nullable Method signatureBytesMethod;
@@ -42,29 +42,19 @@ public final class SignatureMapper implements Mapper<SignedMessage.Signature> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> signedMessageClass = Class.forName(AdventureMapper.ORIGINAL_SIGNED_MESSAGE_CLASS_NAME);
         Class<?> signatureClass = Class.forName(AdventureMapper.ORIGINAL_SIGNED_MESSAGE_SIGNATURE_CLASS_NAME);
         this.signedMessageSignatureMethod = signedMessageClass.getMethod("signature", byte[].class);
         this.signatureBytesMethod = signatureClass.getMethod("bytes");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.signedMessageSignatureMethod != null &&
-            this.signatureBytesMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull SignedMessage.Signature signature) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("signature", signature);
         return Objects.requireNonNull(this.signedMessageSignatureMethod)
             .invoke(null, (Object) signature.bytes());
@@ -75,7 +65,7 @@ public final class SignatureMapper implements Mapper<SignedMessage.Signature> {
      */
     @Override
     public @NotNull SignedMessage.Signature mapBackwards(@NotNull Object signature) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("signature", signature);
         return SignedMessage.signature(
             (byte[]) Objects.requireNonNull(this.signatureBytesMethod).invoke(signature)
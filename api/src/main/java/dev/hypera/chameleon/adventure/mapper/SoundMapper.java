@@ -33,7 +33,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure Sound mapper.
  */
-public final class SoundMapper implements Mapper<Sound> {
+public final class SoundMapper extends LazyMapper<Sound> {
 
     private final @NotNull KeyMapper keyMapper;
     private @Nullable EnumMapper<Sound.Source> sourceMapper;
@@ -51,8 +51,7 @@ public final class SoundMapper implements Mapper<Sound> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> soundClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_CLASS_NAME);
         Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
         Class<?> sourceClass = Class.forName(soundClass.getCanonicalName() + "$Source");
@@ -64,24 +63,12 @@ public final class SoundMapper implements Mapper<Sound> {
         this.soundPitchMethod = soundClass.getMethod("pitch");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.keyMapper.isLoaded() &&
-            this.sourceMapper != null && this.sourceMapper.isLoaded() &&
-            this.soundCreateMethod != null && this.soundNameMethod != null &&
-            this.soundSourceMethod != null && this.soundVolumeMethod != null &&
-            this.soundPitchMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull Sound sound) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("sound", sound);
         return Objects.requireNonNull(this.soundCreateMethod).invoke(
             null, this.keyMapper.map(sound.name()),
@@ -95,7 +82,7 @@ public final class SoundMapper implements Mapper<Sound> {
      */
     @Override
     public @NotNull Sound mapBackwards(@NotNull Object sound) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("sound", sound);
         return Sound.sound(
             this.keyMapper.mapBackwards(Objects.requireNonNull(this.soundNameMethod).invoke(sound)),
@@ -34,7 +34,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure SoundStop mapper.
  */
-public final class SoundStopMapper implements Mapper<SoundStop> {
+public final class SoundStopMapper extends LazyMapper<SoundStop> {
 
     private final @NotNull KeyMapper keyMapper;
     private @Nullable EnumMapper<Sound.Source> sourceMapper;
@@ -53,8 +53,7 @@ public final class SoundStopMapper implements Mapper<SoundStop> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> soundStopClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_STOP_CLASS_NAME);
         Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
         Class<?> sourceClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_CLASS_NAME.concat("$Source"));
@@ -67,24 +66,12 @@ public final class SoundStopMapper implements Mapper<SoundStop> {
         this.soundStopSourceMethod = soundStopClass.getMethod("source");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.keyMapper.isLoaded() &&
-            this.sourceMapper != null && this.sourceMapper.isLoaded() &&
-            this.soundStopAllMethod != null && this.soundStopNamedMethod != null &&
-            this.soundStopOnSourceMethod != null && this.soundStopNamedOnSourceMethod != null &&
-            this.soundStopSoundMethod != null && this.soundStopSourceMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull SoundStop soundStop) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("soundStop", soundStop);
 
         if (soundStop.sound() == null) {
@@ -117,7 +104,7 @@ public final class SoundStopMapper implements Mapper<SoundStop> {
      */
     @Override
     public @NotNull SoundStop mapBackwards(@NotNull Object soundStop) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("soundStop", soundStop);
 
         Object sound = Objects.requireNonNull(this.soundStopSoundMethod).invoke(soundStop);
@@ -34,7 +34,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure Times mapper.
  */
-public final class TimesMapper implements Mapper<Title.Times> {
+public final class TimesMapper extends LazyMapper<Title.Times> {
 
     private @Nullable Method timesCreateMethod;
     private @Nullable Method timesFadeInMethod;
@@ -45,8 +45,7 @@ public final class TimesMapper implements Mapper<Title.Times> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> timesClass = Class.forName(AdventureMapper.ORIGINAL_TITLE_TIMES_CLASS_NAME);
         this.timesCreateMethod = timesClass.getMethod(
             "times", Duration.class, Duration.class, Duration.class
@@ -56,21 +55,12 @@ public final class TimesMapper implements Mapper<Title.Times> {
         this.timesFadeOutMethod = timesClass.getMethod("fadeOut");
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.timesCreateMethod != null && this.timesFadeInMethod != null &&
-            this.timesStayMethod != null && this.timesFadeOutMethod != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull Title.Times times) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("times", times);
         return Objects.requireNonNull(this.timesCreateMethod)
             .invoke(null, times.fadeIn(), times.stay(), times.fadeOut());
@@ -81,7 +71,7 @@ public final class TimesMapper implements Mapper<Title.Times> {
      */
     @Override
     public @NotNull Title.Times mapBackwards(@NotNull Object times) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("times", times);
         return Title.Times.times(
             (Duration) Objects.requireNonNull(this.timesFadeInMethod).invoke(times),
@@ -32,7 +32,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Adventure TitlePart mapper.
  */
-public final class TitlePartMapper implements Mapper<TitlePart<?>> {
+public final class TitlePartMapper extends LazyMapper<TitlePart<?>> {
 
     private @Nullable Object titlePartTitle;
     private @Nullable Object titlePartSubtitle;
@@ -42,30 +42,19 @@ public final class TitlePartMapper implements Mapper<TitlePart<?>> {
      * {@inheritDoc}
      */
     @Override
-    public void load() throws ReflectiveOperationException {
-        Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
+    protected void resolve() throws ReflectiveOperationException {
         Class<?> titlePartClass = Class.forName(AdventureMapper.ORIGINAL_TITLE_PART_CLASS_NAME);
         this.titlePartTitle = titlePartClass.getField("TITLE").get(null);
         this.titlePartSubtitle = titlePartClass.getField("SUBTITLE").get(null);
         this.titlePartTimes = titlePartClass.getField("TIMES").get(null);
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isLoaded() {
-        return this.titlePartTitle != null &&
-            this.titlePartSubtitle != null &&
-            this.titlePartTimes != null;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Object map(@NotNull TitlePart<?> titlePart) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("titlePart", titlePart);
         if (titlePart.equals(TitlePart.TITLE)) {
             return Objects.requireNonNull(this.titlePartTitle);
@@ -83,7 +72,7 @@ public final class TitlePartMapper implements Mapper<TitlePart<?>> {
      */
     @Override
     public @NotNull TitlePart<?> mapBackwards(@NotNull Object titlePart) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        ensureLoaded();
         Preconditions.checkNotNull("titlePart", titlePart);
         if (titlePart.equals(this.titlePartTitle)) {
             return TitlePart.TITLE;
@@ -0,0 +1,48 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an operation that handles a batch of events of a certain type.
+ *
+ * @param <E> Event type.
+ *
+ * @see EventBus#dispatchAll(java.util.Collection)
+ */
+@FunctionalInterface
+public interface BatchEventConsumer<E extends ChameleonEvent> {
+
+    /**
+     * Invoked when a batch of events has been dispatched.
+     *
+     * @param events Dispatched events, in the order they were dispatched.
+     *
+     * @throws Throwable if an exception is thrown by the implementation.
+     */
+    void on(final @NotNull List<E> events) throws Throwable;
+
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.scheduler.Schedule;
+import dev.hypera.chameleon.scheduler.Scheduler;
+import dev.hypera.chameleon.scheduler.Task;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Event consumer that collapses events with the same key within a time window, delivering only the
+ * latest event once the window has elapsed.
+ *
+ * <p>Delivery is performed by the event bus the subscriber is registered with, see
+ * {@link #bind(Consumer)}, so that coalesced events go through the same executor, exception
+ * handling and metrics as any other event.</p>
+ *
+ * @param <E> Event type.
+ */
+final class CoalescingEventConsumer<E extends ChameleonEvent> implements EventConsumer<E> {
+
+    private final @NotNull Scheduler scheduler;
+    private final @NotNull Schedule window;
+    private final @NotNull Function<? super E, ?> keyFunction;
+    private final boolean async;
+
+    private final @NotNull Map<Object, E> pending = new ConcurrentHashMap<>();
+    private volatile @Nullable Consumer<E> delivery;
+
+    CoalescingEventConsumer(@NotNull Scheduler scheduler, @NotNull Duration window, @NotNull Function<? super E, ?> keyFunction, boolean async) {
+        this.scheduler = scheduler;
+        this.window = Schedule.duration(window);
+        this.keyFunction = keyFunction;
+        this.async = async;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void on(@NotNull E event) {
+        Object key = this.keyFunction.apply(event);
+        if (this.pending.put(key, event) == null) {
+            // First event for this key in the current window, schedule the delivery.
+            Task.Builder task = Task.builder(() -> flush(key)).delay(this.window);
+            this.scheduler.schedule(this.async ? task.async().build() : task.sync().build());
+        }
+    }
+
+    /**
+     * Set the callback used to deliver the latest event for a key once its window has elapsed.
+     *
+     * @param delivery Delivery callback.
+     */
+    void bind(@NotNull Consumer<E> delivery) {
+        this.delivery = delivery;
+    }
+
+    private void flush(@NotNull Object key) {
+        E event = this.pending.remove(key);
+        Consumer<E> delivery = this.delivery;
+        if (event != null && delivery != null) {
+            delivery.accept(event);
+        }
+    }
+
+}
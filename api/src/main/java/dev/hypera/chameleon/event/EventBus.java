@@ -23,6 +23,8 @@
  */
 package dev.hypera.chameleon.event;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.NotNull;
@@ -41,6 +43,33 @@ public interface EventBus {
      */
     void dispatch(@NotNull ChameleonEvent event);
 
+    /**
+     * Dispatches a collection of events to subscribers.
+     *
+     * <p>Events are grouped by their type, and the subscribers of each group are only resolved
+     * once. Subscribers that accept batches receive each group as a single list, while other
+     * subscribers are called once for each event.</p>
+     *
+     * @param events Events to be dispatched.
+     *
+     * @see EventSubscriber.Builder#batchHandler(BatchEventConsumer)
+     */
+    void dispatchAll(@NotNull Collection<? extends ChameleonEvent> events);
+
+    /**
+     * Dispatches an event to subscribers asynchronously.
+     *
+     * <p>Synchronous subscribers are called in priority order on an asynchronous thread, and the
+     * returned future is completed once every subscriber, including asynchronous subscribers, has
+     * handled the event.</p>
+     *
+     * @param event Event to be dispatched.
+     * @param <E>   Event type.
+     *
+     * @return a future completed with the event once it has been dispatched.
+     */
+    <E extends ChameleonEvent> @NotNull CompletableFuture<E> dispatchAsync(@NotNull E event);
+
     /**
      * Registers an event subscriber.
      *
@@ -65,6 +94,17 @@ public interface EventBus {
      */
     <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber);
 
+    /**
+     * Registers every {@link dev.hypera.chameleon.event.annotations.Subscribe} annotated method of
+     * the given listener as an event subscriber.
+     *
+     * @param listener Listener instance.
+     *
+     * @return an event subscription that unregisters all the listener's subscribers.
+     * @throws IllegalArgumentException if the listener declares an invalid subscriber method.
+     */
+    @NotNull EventSubscription registerListener(@NotNull Object listener);
+
     /**
      * Determines whether the given event has been subscribed to.
      *
@@ -74,6 +114,18 @@ public interface EventBus {
      */
     boolean subscribed(@NotNull Class<? extends ChameleonEvent> event);
 
+    /**
+     * Registers a listener that is called whenever subscribers are registered or unregistered.
+     *
+     * <p>This can be used alongside {@link #subscribed(Class)} to avoid producing events that
+     * nobody has subscribed to.</p>
+     *
+     * @param listener Subscription listener.
+     *
+     * @return a subscription that unregisters the listener.
+     */
+    @NotNull EventSubscription addSubscriptionListener(@NotNull Runnable listener);
+
     /**
      * Unregisters subscribers matching the given predicate.
      *
@@ -81,6 +133,16 @@ public interface EventBus {
      */
     void unsubscribeIf(@NotNull Predicate<EventSubscriber<? super ChameleonEvent>> predicate);
 
+    /**
+     * Returns a snapshot of the metrics recorded by this event bus.
+     *
+     * <p>Metrics are only recorded while
+     * {@link dev.hypera.chameleon.util.internal.ChameleonProperty#EVENT_METRICS} is enabled.</p>
+     *
+     * @return metrics snapshot.
+     */
+    @NotNull EventBusMetrics metrics();
+
     /**
      * Sets the exception handler for this event bus.
      *
@@ -25,18 +25,22 @@ package dev.hypera.chameleon.event;
 
 import dev.hypera.chameleon.logger.ChameleonLogger;
 import dev.hypera.chameleon.util.Preconditions;
+import dev.hypera.chameleon.util.internal.ChameleonExecutors;
+import dev.hypera.chameleon.util.internal.ChameleonProperty;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Event bus implementation.
@@ -44,11 +48,13 @@ import org.jetbrains.annotations.NotNull;
 @Internal
 public final class EventBusImpl implements EventBus {
 
-    private static final @NotNull Comparator<EventSubscriber<? super ChameleonEvent>> PRIORITY_COMPARATOR = Comparator.comparingInt(e -> e.getPriority().ordinal());
-
-    private final @NotNull Map<Class<? extends ChameleonEvent>, Set<EventSubscriber<? super ChameleonEvent>>> subscriptions = new ConcurrentHashMap<>();
-    private final @NotNull Map<Class<? extends ChameleonEvent>, List<EventSubscriber<? super ChameleonEvent>>> sortedSubscriptions = new ConcurrentHashMap<>();
-    private @NotNull ExceptionHandler exceptionHandler;
+    private final @NotNull Object lock = new Object();
+    private final @NotNull Set<EventSubscriber<? super ChameleonEvent>> subscribers = new LinkedHashSet<>();
+    private volatile @NotNull EventDispatchTable dispatchTable = EventDispatchTable.EMPTY;
+    private final @NotNull Executor asyncExecutor;
+    private final @NotNull EventMetricsRecorder metrics = new EventMetricsRecorder();
+    private final @NotNull List<Runnable> subscriptionListeners = new CopyOnWriteArrayList<>();
+    private volatile @NotNull ExceptionHandler exceptionHandler;
 
     /**
      * Event bus implementation constructor.
@@ -72,7 +78,19 @@ public final class EventBusImpl implements EventBus {
      */
     @Internal
     public EventBusImpl(@NotNull ExceptionHandler exceptionHandler) {
+        this(exceptionHandler, ChameleonExecutors.async());
+    }
+
+    /**
+     * Event bus implementation constructor.
+     *
+     * @param exceptionHandler Event exception handler.
+     * @param asyncExecutor    Executor used to dispatch events asynchronously.
+     */
+    @Internal
+    public EventBusImpl(@NotNull ExceptionHandler exceptionHandler, @NotNull Executor asyncExecutor) {
         this.exceptionHandler = exceptionHandler;
+        this.asyncExecutor = asyncExecutor;
     }
 
     /**
@@ -81,15 +99,64 @@ public final class EventBusImpl implements EventBus {
     @Override
     public void dispatch(@NotNull ChameleonEvent event) {
         Preconditions.checkNotNull("event", event);
-        getSubscribers(event.getClass()).iterator().forEachRemaining(subscriber -> {
-            if (subscriber.acceptsCancelled() || !(event instanceof Cancellable) || !((Cancellable) event).isCancelled()) {
-                try {
-                    subscriber.on(event);
-                } catch (Throwable ex) {
-                    this.exceptionHandler.handle(this, subscriber, event, ex);
+        post(event);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispatchAll(@NotNull Collection<? extends ChameleonEvent> events) {
+        Preconditions.checkNotNull("events", events);
+        Map<Class<? extends ChameleonEvent>, List<ChameleonEvent>> groups = new LinkedHashMap<>();
+        for (ChameleonEvent event : events) {
+            Preconditions.checkNotNull("event", event);
+            groups.computeIfAbsent(event.getClass(), key -> new ArrayList<>()).add(event);
+        }
+
+        EventDispatchTable table = this.dispatchTable;
+        for (Map.Entry<Class<? extends ChameleonEvent>, List<ChameleonEvent>> group : groups.entrySet()) {
+            EventDispatchTable.Entry entry = table.get(group.getKey());
+            EventSubscriber<? super ChameleonEvent>[] subscribers = entry.getSubscribers();
+            if (subscribers.length < 1) {
+                continue;
+            }
+
+            // Each subscriber handles every event in the group before the next subscriber is
+            // called, so that cancellations made by earlier subscribers are respected.
+            for (EventSubscriber<? super ChameleonEvent> subscriber : subscribers) {
+                boolean skipCancelled = entry.isCancellable() && !subscriber.acceptsCancelled();
+                if (subscriber.acceptsBatches()) {
+                    List<ChameleonEvent> batch = new ArrayList<>(group.getValue().size());
+                    for (ChameleonEvent event : group.getValue()) {
+                        if ((!skipCancelled || !((Cancellable) event).isCancelled()) && subscriber.accepts(event)) {
+                            batch.add(event);
+                        }
+                    }
+
+                    if (!batch.isEmpty()) {
+                        deliverBatch(subscriber, batch);
+                    }
+                    continue;
+                }
+
+                for (ChameleonEvent event : group.getValue()) {
+                    if ((!skipCancelled || !((Cancellable) event).isCancelled()) && subscriber.accepts(event)) {
+                        deliver(subscriber, event);
+                    }
                 }
             }
-        });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends ChameleonEvent> @NotNull CompletableFuture<E> dispatchAsync(@NotNull E event) {
+        Preconditions.checkNotNull("event", event);
+        return CompletableFuture.supplyAsync(() -> post(event), this.asyncExecutor)
+            .thenCompose(pending -> pending == null ? CompletableFuture.completedFuture(event) : pending.thenApply(v -> event));
     }
 
     /**
@@ -104,24 +171,58 @@ public final class EventBusImpl implements EventBus {
             "subscriber does not have a set type, use #subscribe(Class, EventSubscriber) or EventSubscriber#builder instead"
         );
 
-        this.subscriptions.computeIfAbsent(subscriber.getType(), key -> Collections.synchronizedSet(new HashSet<>())).add((EventSubscriber<ChameleonEvent>) subscriber);
-        this.sortedSubscriptions.clear();
-
         EventSubscription subscription = () -> unsubscribeIf(sub -> sub.equals(subscriber));
         if (subscriber instanceof EventSubscriberImpl) {
-            ((EventSubscriberImpl<T>) subscriber).setSubscription(subscription);
+            EventSubscriberImpl<ChameleonEvent> impl = (EventSubscriberImpl<ChameleonEvent>) subscriber;
+            impl.setSubscription(subscription, event -> deliverCoalesced(impl, event));
         }
 
+        boolean added;
+        synchronized (this.lock) {
+            added = this.subscribers.add((EventSubscriber<ChameleonEvent>) subscriber);
+            if (added) {
+                this.dispatchTable = EventDispatchTable.create(this.subscribers);
+            }
+        }
+
+        if (added) {
+            notifySubscriptionListeners();
+        }
         return subscription;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventSubscription registerListener(@NotNull Object listener) {
+        Preconditions.checkNotNull("listener", listener);
+        ListenerMethod[] methods = ListenerMethod.of(listener.getClass());
+        List<EventSubscription> subscriptions = new ArrayList<>(methods.length);
+        for (ListenerMethod method : methods) {
+            subscriptions.add(subscribe(method.createSubscriber(listener)));
+        }
+
+        return () -> subscriptions.forEach(EventSubscription::unsubscribe);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean subscribed(@NotNull Class<? extends ChameleonEvent> event) {
         Preconditions.checkNotNull("event", event);
-        return this.subscriptions.entrySet().stream().anyMatch(entry -> entry.getKey().isAssignableFrom(event) && !entry.getValue().isEmpty());
+        return this.dispatchTable.get(event).getSubscribers().length > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventSubscription addSubscriptionListener(@NotNull Runnable listener) {
+        Preconditions.checkNotNull("listener", listener);
+        this.subscriptionListeners.add(listener);
+        return () -> this.subscriptionListeners.remove(listener);
     }
 
     /**
@@ -131,16 +232,34 @@ public final class EventBusImpl implements EventBus {
     public void unsubscribeIf(@NotNull Predicate<EventSubscriber<? super ChameleonEvent>> predicate) {
         Preconditions.checkNotNull("predicate", predicate);
 
-        boolean removed = false;
-        for (Set<EventSubscriber<? super ChameleonEvent>> subscribers : this.subscriptions.values()) {
-            removed |= subscribers.removeIf(predicate);
+        boolean removed;
+        synchronized (this.lock) {
+            removed = this.subscribers.removeIf(subscriber -> {
+                if (predicate.test(subscriber)) {
+                    this.metrics.remove(subscriber);
+                    return true;
+                }
+                return false;
+            });
+
+            if (removed) {
+                this.dispatchTable = EventDispatchTable.create(this.subscribers);
+            }
         }
 
         if (removed) {
-            this.sortedSubscriptions.clear();
+            notifySubscriptionListeners();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventBusMetrics metrics() {
+        return this.metrics.snapshot();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -150,26 +269,161 @@ public final class EventBusImpl implements EventBus {
         this.exceptionHandler = exceptionHandler;
     }
 
-    private synchronized @NotNull List<EventSubscriber<? super ChameleonEvent>> getSubscribers(@NotNull Class<? extends ChameleonEvent> event) {
-        Preconditions.checkNotNull("event", event);
-        List<EventSubscriber<? super ChameleonEvent>> subscribers = this.sortedSubscriptions.entrySet().stream()
-            .filter(entry -> entry.getKey().isAssignableFrom(event)).map(Entry::getValue).findFirst().orElse(null);
+    private void notifySubscriptionListeners() {
+        for (Runnable listener : this.subscriptionListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Posts the given event to subscribers.
+     *
+     * <p>Synchronous subscribers are called on the current thread, while asynchronous subscribers
+     * are submitted to their executor.</p>
+     *
+     * @param event Event to post.
+     *
+     * @return a future completed once all asynchronous subscribers have been called, or
+     *     {@code null} if there were no asynchronous subscribers.
+     */
+    private @Nullable CompletableFuture<Void> post(@NotNull ChameleonEvent event) {
+        List<CompletableFuture<Void>> pending = null;
+        EventDispatchTable.Entry entry = this.dispatchTable.get(event.getClass());
+        EventSubscriber<? super ChameleonEvent>[] subscribers = entry.getSubscribers();
+        for (int i = 0; i < subscribers.length; i++) {
+            // Once the event has been cancelled, skip straight to the subscribers that accept
+            // cancelled events
+            if (entry.isCancellable() && ((Cancellable) event).isCancelled()) {
+                i = entry.nextAcceptingCancelled(i);
+                if (i >= subscribers.length) {
+                    break;
+                }
+            }
+
+            EventSubscriber<? super ChameleonEvent> subscriber = subscribers[i];
+            if (subscriber.accepts(event)) {
+                CompletableFuture<Void> future = deliver(subscriber, event);
+                if (future != null) {
+                    if (pending == null) {
+                        pending = new ArrayList<>();
+                    }
+                    pending.add(future);
+                }
+            }
+        }
+
+        return pending == null ? null : CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private @Nullable CompletableFuture<Void> deliver(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull ChameleonEvent event) {
+        Executor executor = subscriber.getExecutor();
+        if (executor == null) {
+            invoke(subscriber, event, false);
+            return null;
+        }
+
+        try {
+            return CompletableFuture.runAsync(() -> invoke(subscriber, event, false), executor);
+        } catch (Throwable ex) {
+            this.exceptionHandler.handle(this, subscriber, event, ex);
+            return null;
+        }
+    }
+
+    private void deliverBatch(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull List<ChameleonEvent> events) {
+        Executor executor = subscriber.getExecutor();
+        if (executor == null) {
+            invokeBatch(subscriber, events);
+            return;
+        }
+
+        try {
+            executor.execute(() -> invokeBatch(subscriber, events));
+        } catch (Throwable ex) {
+            this.exceptionHandler.handle(this, subscriber, events.get(0), ex);
+        }
+    }
 
-        if (subscribers == null) {
-            if (subscribed(event)) {
-                List<EventSubscriber<? super ChameleonEvent>> sortedSubscribers = Collections.synchronizedList(new ArrayList<>(this.subscriptions.entrySet().stream()
-                    .filter(entry -> entry.getKey().isAssignableFrom(event)).map(Entry::getValue).findFirst().orElse(Collections.synchronizedSet(new HashSet<>()))));
+    /**
+     * Deliver the latest event of a coalescing window to the given subscriber, using the
+     * subscriber's executor if it has one.
+     *
+     * @param subscriber Coalescing subscriber.
+     * @param event      Latest event.
+     */
+    private void deliverCoalesced(@NotNull EventSubscriberImpl<ChameleonEvent> subscriber, @NotNull ChameleonEvent event) {
+        Executor executor = subscriber.getExecutor();
+        if (executor == null) {
+            invoke(subscriber, event, true);
+            return;
+        }
+
+        try {
+            executor.execute(() -> invoke(subscriber, event, true));
+        } catch (Throwable ex) {
+            this.exceptionHandler.handle(this, subscriber, event, ex);
+        }
+    }
 
-                sortedSubscribers.sort(PRIORITY_COMPARATOR);
-                this.sortedSubscriptions.put(event, sortedSubscribers);
-                return sortedSubscribers;
+    private void invoke(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull ChameleonEvent event, boolean coalesced) {
+        if (!ChameleonProperty.EVENT_METRICS.get()) {
+            try {
+                handle(subscriber, event, coalesced);
+            } catch (Throwable ex) {
+                this.exceptionHandler.handle(this, subscriber, event, ex);
             }
+            return;
+        }
 
-            return new ArrayList<>();
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            handle(subscriber, event, coalesced);
+        } catch (Throwable ex) {
+            failed = true;
+            this.exceptionHandler.handle(this, subscriber, event, ex);
+        } finally {
+            this.metrics.record(subscriber, event.getClass(), System.nanoTime() - start, failed);
         }
+    }
 
-        return subscribers;
+    private void invokeBatch(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull List<ChameleonEvent> events) {
+        boolean metrics = ChameleonProperty.EVENT_METRICS.get();
+        long start = metrics ? System.nanoTime() : 0;
+        boolean failed = false;
+        try {
+            handleBatch(subscriber, events);
+        } catch (Throwable ex) {
+            // Exceptions are reported against the first event of the batch
+            failed = true;
+            this.exceptionHandler.handle(this, subscriber, events.get(0), ex);
+        } finally {
+            if (metrics) {
+                this.metrics.record(subscriber, events.get(0).getClass(), System.nanoTime() - start, failed);
+            }
+        }
     }
 
+    private static void handle(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull ChameleonEvent event, boolean coalesced) throws Throwable {
+        // Filters have already been checked through accepts(), so skip testing them again
+        if (subscriber instanceof EventSubscriberImpl) {
+            EventSubscriberImpl<? super ChameleonEvent> impl = (EventSubscriberImpl<? super ChameleonEvent>) subscriber;
+            if (coalesced) {
+                impl.handleCoalesced(event);
+            } else {
+                impl.handleAccepted(event);
+            }
+        } else {
+            subscriber.on(event);
+        }
+    }
+
+    private static void handleBatch(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull List<ChameleonEvent> events) throws Throwable {
+        if (subscriber instanceof EventSubscriberImpl) {
+            ((EventSubscriberImpl<? super ChameleonEvent>) subscriber).handleAcceptedBatch(events);
+        } else {
+            subscriber.onBatch(events);
+        }
+    }
 
 }
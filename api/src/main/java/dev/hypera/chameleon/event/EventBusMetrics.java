@@ -0,0 +1,115 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.time.Duration;
+import java.util.List;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A snapshot of the metrics recorded by an event bus.
+ *
+ * <p>Metrics are only recorded while
+ * {@link dev.hypera.chameleon.util.internal.ChameleonProperty#EVENT_METRICS} is enabled.</p>
+ *
+ * @see EventBus#metrics()
+ */
+@NonExtendable
+public interface EventBusMetrics {
+
+    /**
+     * Returns the metrics recorded for each subscriber and event type.
+     *
+     * @return subscriber metrics.
+     */
+    @NotNull List<SubscriberMetrics> getSubscribers();
+
+    /**
+     * Metrics recorded for a single event subscriber handling a single event type.
+     */
+    @NonExtendable
+    interface SubscriberMetrics {
+
+        /**
+         * Returns the event subscriber.
+         *
+         * @return event subscriber.
+         */
+        @NotNull EventSubscriber<?> getSubscriber();
+
+        /**
+         * Returns the type of event handled by the subscriber.
+         *
+         * @return event type.
+         */
+        @NotNull Class<? extends ChameleonEvent> getEventType();
+
+        /**
+         * Returns the number of times the subscriber has been called.
+         *
+         * @return invocation count.
+         */
+        long getInvocations();
+
+        /**
+         * Returns the number of times the subscriber has thrown an exception.
+         *
+         * @return exception count.
+         */
+        long getExceptions();
+
+        /**
+         * Returns the total time spent in the subscriber.
+         *
+         * @return total time.
+         */
+        @NotNull Duration getTotalTime();
+
+        /**
+         * Returns the longest time spent in a single invocation of the subscriber.
+         *
+         * @return max time.
+         */
+        @NotNull Duration getMaxTime();
+
+        /**
+         * Returns the mean time spent in a single invocation of the subscriber.
+         *
+         * @return mean time.
+         */
+        @NotNull Duration getMeanTime();
+
+        /**
+         * Returns the time spent in a single invocation of the subscriber at the given percentile.
+         *
+         * @param percentile Percentile, between {@code 0} and {@code 100}.
+         *
+         * @return time at percentile.
+         */
+        @NotNull Duration getPercentile(double percentile);
+
+    }
+
+}
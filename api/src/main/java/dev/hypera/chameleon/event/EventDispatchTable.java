@@ -0,0 +1,224 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable snapshot of the subscriptions registered to an {@link EventBusImpl}.
+ *
+ * <p>A new table is created whenever the subscriptions change, and the subscribers for each event
+ * type are resolved once, ordered by priority and then cached, meaning that looking up the
+ * subscribers of an event that has already been dispatched requires no locking and no
+ * allocation.</p>
+ *
+ * <p>The subscribers for an event type are the union of the subscribers of the event type itself
+ * and of every superclass and interface it extends. Subscribers are ordered by priority, and then
+ * by the order in which they were registered.</p>
+ */
+final class EventDispatchTable {
+
+    static final @NotNull EventSubscriber<? super ChameleonEvent> @NotNull [] NO_SUBSCRIBERS = newArray(0);
+    static final @NotNull EventDispatchTable EMPTY = new EventDispatchTable(NO_SUBSCRIBERS, Collections.emptyMap());
+
+    private static final @NotNull EventSubscriptionPriority @NotNull [] PRIORITIES = EventSubscriptionPriority.values();
+    private static final @NotNull ClassValue<Class<?>[]> HIERARCHY = new ClassValue<Class<?>[]>() {
+        @Override
+        protected Class<?> @NotNull [] computeValue(@NotNull Class<?> type) {
+            return resolveHierarchy(type);
+        }
+    };
+
+    private final @NotNull EventSubscriber<? super ChameleonEvent> @NotNull [] subscribers;
+    private final @NotNull Map<Class<?>, int[][]> subscriptions;
+    private final @NotNull Map<Class<? extends ChameleonEvent>, Entry> resolved = new ConcurrentHashMap<>();
+
+    private EventDispatchTable(@NotNull EventSubscriber<? super ChameleonEvent> @NotNull [] subscribers, @NotNull Map<Class<?>, int[][]> subscriptions) {
+        this.subscribers = subscribers;
+        this.subscriptions = subscriptions;
+    }
+
+    /**
+     * Creates a new dispatch table from the given subscribers.
+     *
+     * @param subscribers Subscribers, in the order they were registered.
+     *
+     * @return new dispatch table.
+     */
+    static @NotNull EventDispatchTable create(@NotNull Collection<EventSubscriber<? super ChameleonEvent>> subscribers) {
+        if (subscribers.isEmpty()) {
+            return EMPTY;
+        }
+
+        // Bucket the subscribers of each type by priority, keeping registration order
+        EventSubscriber<? super ChameleonEvent>[] snapshot = subscribers.toArray(newArray(0));
+        Map<Class<?>, int[][]> subscriptions = new HashMap<>();
+        for (int i = 0; i < snapshot.length; i++) {
+            int[][] buckets = subscriptions.computeIfAbsent(Objects.requireNonNull(snapshot[i].getType()), key -> new int[PRIORITIES.length][0]);
+            int priority = snapshot[i].getPriority().ordinal();
+            int[] bucket = Arrays.copyOf(buckets[priority], buckets[priority].length + 1);
+            bucket[bucket.length - 1] = i;
+            buckets[priority] = bucket;
+        }
+
+        return new EventDispatchTable(snapshot, subscriptions);
+    }
+
+    /**
+     * Returns the subscribers that should receive events of the given type, ordered by priority.
+     *
+     * @param event Event type.
+     *
+     * @return event subscribers.
+     */
+    @NotNull Entry get(@NotNull Class<? extends ChameleonEvent> event) {
+        Entry entry = this.resolved.get(event);
+        if (entry == null) {
+            entry = this.resolved.computeIfAbsent(event, this::resolve);
+        }
+        return entry;
+    }
+
+    private @NotNull Entry resolve(@NotNull Class<? extends ChameleonEvent> event) {
+        Class<?>[] hierarchy = HIERARCHY.get(event);
+        boolean cancellable = Cancellable.class.isAssignableFrom(event);
+
+        // Merge the subscribers of every type in the hierarchy one priority bucket at a time,
+        // restoring registration order within each bucket
+        int[] merged = new int[0];
+        for (int priority = 0; priority < PRIORITIES.length; priority++) {
+            int offset = merged.length;
+            for (Class<?> type : hierarchy) {
+                int[][] buckets = this.subscriptions.get(type);
+                if (buckets != null && buckets[priority].length > 0) {
+                    int length = merged.length;
+                    merged = Arrays.copyOf(merged, length + buckets[priority].length);
+                    System.arraycopy(buckets[priority], 0, merged, length, buckets[priority].length);
+                }
+            }
+            Arrays.sort(merged, offset, merged.length);
+        }
+
+        if (merged.length < 1) {
+            return new Entry(NO_SUBSCRIBERS, cancellable);
+        }
+
+        EventSubscriber<? super ChameleonEvent>[] subscribers = newArray(merged.length);
+        for (int i = 0; i < merged.length; i++) {
+            subscribers[i] = this.subscribers[merged[i]];
+        }
+        return new Entry(subscribers, cancellable);
+    }
+
+    private static Class<?> @NotNull [] resolveHierarchy(@NotNull Class<?> type) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+
+        Class<?> current;
+        while ((current = queue.poll()) != null) {
+            if (hierarchy.add(current)) {
+                Class<?> superclass = current.getSuperclass();
+                if (superclass != null) {
+                    queue.add(superclass);
+                }
+                Collections.addAll(queue, current.getInterfaces());
+            }
+        }
+
+        return hierarchy.toArray(new Class<?>[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull EventSubscriber<? super ChameleonEvent> @NotNull [] newArray(int length) {
+        return (EventSubscriber<? super ChameleonEvent>[]) new EventSubscriber<?>[length];
+    }
+
+    /**
+     * The resolved subscribers of an event type.
+     */
+    static final class Entry {
+
+        private final @NotNull EventSubscriber<? super ChameleonEvent> @NotNull [] subscribers;
+        private final boolean cancellable;
+        private final int @NotNull [] nextAcceptingCancelled;
+
+        Entry(@NotNull EventSubscriber<? super ChameleonEvent> @NotNull [] subscribers, boolean cancellable) {
+            this.subscribers = subscribers;
+            this.cancellable = cancellable;
+
+            // For each index, the index of the next subscriber that accepts cancelled events
+            this.nextAcceptingCancelled = new int[subscribers.length + 1];
+            this.nextAcceptingCancelled[subscribers.length] = subscribers.length;
+            for (int i = subscribers.length - 1; i >= 0; i--) {
+                this.nextAcceptingCancelled[i] = subscribers[i].acceptsCancelled() ? i : this.nextAcceptingCancelled[i + 1];
+            }
+        }
+
+        /**
+         * Returns the subscribers, ordered by priority.
+         *
+         * <p>The returned array must not be modified.</p>
+         *
+         * @return subscribers.
+         */
+        @NotNull EventSubscriber<? super ChameleonEvent> @NotNull [] getSubscribers() {
+            return this.subscribers;
+        }
+
+        /**
+         * Returns whether events of this type can be cancelled.
+         *
+         * @return {@code true} if events of this type are {@link Cancellable}.
+         */
+        boolean isCancellable() {
+            return this.cancellable;
+        }
+
+        /**
+         * Returns the index of the first subscriber at or after {@code index} that accepts
+         * cancelled events, or the number of subscribers if there are none.
+         *
+         * @param index Subscriber index.
+         *
+         * @return next subscriber index.
+         */
+        int nextAcceptingCancelled(int index) {
+            return this.nextAcceptingCancelled[index];
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.util.internal.LatencyHistogram;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Records event bus metrics.
+ */
+final class EventMetricsRecorder {
+
+    private final @NotNull Map<EventSubscriber<?>, Map<Class<? extends ChameleonEvent>, Recorder>> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * Records an invocation of the given subscriber.
+     *
+     * @param subscriber Event subscriber.
+     * @param event      Event type.
+     * @param nanos      Time spent in the subscriber, in nanoseconds.
+     * @param failed     Whether the subscriber threw an exception.
+     */
+    void record(@NotNull EventSubscriber<?> subscriber, @NotNull Class<? extends ChameleonEvent> event, long nanos, boolean failed) {
+        Map<Class<? extends ChameleonEvent>, Recorder> byEvent = this.recorders.get(subscriber);
+        if (byEvent == null) {
+            byEvent = this.recorders.computeIfAbsent(subscriber, key -> new ConcurrentHashMap<>());
+        }
+
+        Recorder recorder = byEvent.get(event);
+        if (recorder == null) {
+            recorder = byEvent.computeIfAbsent(event, key -> new Recorder());
+        }
+
+        recorder.record(nanos, failed);
+    }
+
+    /**
+     * Removes the metrics recorded for the given subscriber.
+     *
+     * @param subscriber Event subscriber.
+     */
+    void remove(@NotNull EventSubscriber<?> subscriber) {
+        this.recorders.remove(subscriber);
+    }
+
+    /**
+     * Creates a snapshot of the recorded metrics.
+     *
+     * @return metrics snapshot.
+     */
+    @NotNull EventBusMetrics snapshot() {
+        List<EventBusMetrics.SubscriberMetrics> subscribers = new ArrayList<>();
+        this.recorders.forEach((subscriber, byEvent) -> byEvent.forEach((event, recorder) ->
+            subscribers.add(recorder.snapshot(subscriber, event))
+        ));
+
+        List<EventBusMetrics.SubscriberMetrics> snapshot = Collections.unmodifiableList(subscribers);
+        return () -> snapshot;
+    }
+
+    private static final class Recorder {
+
+        private final @NotNull LongAdder invocations = new LongAdder();
+        private final @NotNull LongAdder exceptions = new LongAdder();
+        private final @NotNull LongAdder totalNanos = new LongAdder();
+        private final @NotNull LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final @NotNull LatencyHistogram histogram = new LatencyHistogram();
+
+        void record(long nanos, boolean failed) {
+            this.invocations.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+            this.histogram.record(nanos);
+            if (failed) {
+                this.exceptions.increment();
+            }
+        }
+
+        @NotNull EventBusMetrics.SubscriberMetrics snapshot(@NotNull EventSubscriber<?> subscriber, @NotNull Class<? extends ChameleonEvent> event) {
+            return new Snapshot(
+                subscriber, event, this.invocations.sum(), this.exceptions.sum(),
+                this.totalNanos.sum(), this.maxNanos.get(), this.histogram.copy()
+            );
+        }
+
+    }
+
+    private static final class Snapshot implements EventBusMetrics.SubscriberMetrics {
+
+        private final @NotNull EventSubscriber<?> subscriber;
+        private final @NotNull Class<? extends ChameleonEvent> eventType;
+        private final long invocations;
+        private final long exceptions;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final @NotNull LatencyHistogram histogram;
+
+        Snapshot(@NotNull EventSubscriber<?> subscriber, @NotNull Class<? extends ChameleonEvent> eventType, long invocations, long exceptions, long totalNanos, long maxNanos, @NotNull LatencyHistogram histogram) {
+            this.subscriber = subscriber;
+            this.eventType = eventType;
+            this.invocations = invocations;
+            this.exceptions = exceptions;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.histogram = histogram;
+        }
+
+        @Override
+        public @NotNull EventSubscriber<?> getSubscriber() {
+            return this.subscriber;
+        }
+
+        @Override
+        public @NotNull Class<? extends ChameleonEvent> getEventType() {
+            return this.eventType;
+        }
+
+        @Override
+        public long getInvocations() {
+            return this.invocations;
+        }
+
+        @Override
+        public long getExceptions() {
+            return this.exceptions;
+        }
+
+        @Override
+        public @NotNull Duration getTotalTime() {
+            return Duration.ofNanos(this.totalNanos);
+        }
+
+        @Override
+        public @NotNull Duration getMaxTime() {
+            return Duration.ofNanos(this.maxNanos);
+        }
+
+        @Override
+        public @NotNull Duration getMeanTime() {
+            return this.invocations > 0 ? Duration.ofNanos(this.totalNanos / this.invocations) : Duration.ZERO;
+        }
+
+        @Override
+        public @NotNull Duration getPercentile(double percentile) {
+            return Duration.ofNanos(Math.min(this.maxNanos, this.histogram.valueAtPercentile(percentile)));
+        }
+
+    }
+
+}
@@ -24,7 +24,12 @@
 package dev.hypera.chameleon.event;
 
 import dev.hypera.chameleon.event.EventSubscriberImpl.BuilderImpl;
+import dev.hypera.chameleon.scheduler.Scheduler;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.Contract;
@@ -51,6 +56,22 @@ public interface EventSubscriber<E extends ChameleonEvent> extends EventConsumer
         return new BuilderImpl<>(type);
     }
 
+    /**
+     * Invoked when a batch of events has been dispatched.
+     * <p>This is only called if {@link #acceptsBatches()} returns {@code true}, and by default
+     * calls {@link #on(ChameleonEvent)} for each event.</p>
+     *
+     * @param events Dispatched events.
+     *
+     * @throws Throwable if an exception is thrown by the implementation.
+     * @see EventBus#dispatchAll(Collection)
+     */
+    default void onBatch(@NotNull List<E> events) throws Throwable {
+        for (E event : events) {
+            on(event);
+        }
+    }
+
     /**
      * Get the priority of this subscriber.
      * <p>Defaults to {@code 0} (normal)</p>
@@ -71,6 +92,31 @@ public interface EventSubscriber<E extends ChameleonEvent> extends EventConsumer
         return false;
     }
 
+    /**
+     * Whether this subscriber should be given the given event.
+     * <p>This is checked by the event bus before the subscriber is invoked, so that events this
+     * subscriber is not interested in can be skipped cheaply. Implementations must not have side
+     * effects. Defaults to {@code true}</p>
+     *
+     * @param event Dispatched event.
+     *
+     * @return {@code true} if the event should be handled, otherwise {@code false}.
+     */
+    default boolean accepts(@NotNull E event) {
+        return true;
+    }
+
+    /**
+     * Whether this subscriber should be given batches of events.
+     * <p>Defaults to {@code false}</p>
+     *
+     * @return {@code true} if batches should be handled by {@link #onBatch(List)}, otherwise
+     *     {@code false}.
+     */
+    default boolean acceptsBatches() {
+        return false;
+    }
+
     /**
      * Get the type of event this subscriber.
      * <p>If this returns a non-null value then the subscriber can be registered without providing
@@ -82,6 +128,17 @@ public interface EventSubscriber<E extends ChameleonEvent> extends EventConsumer
         return null;
     }
 
+    /**
+     * Get the executor this subscriber should be called on.
+     * <p>If this returns a non-null value then the subscriber will be called asynchronously using
+     * the returned executor, instead of on the thread that dispatched the event.</p>
+     *
+     * @return subscriber executor, or {@code null} if this subscriber is synchronous.
+     */
+    default @Nullable Executor getExecutor() {
+        return null;
+    }
+
 
     /**
      * Event subscriber builder.
@@ -101,6 +158,19 @@ public interface EventSubscriber<E extends ChameleonEvent> extends EventConsumer
         @Contract("_ -> this")
         @NotNull Builder<E> handler(@NotNull EventConsumer<E> handler);
 
+        /**
+         * Set the batch event handler.
+         * <p>The batch handler is given every event of a batch dispatched using
+         * {@link EventBus#dispatchAll(Collection)} at once. If no other handler has been set,
+         * events dispatched individually are given to the batch handler as a singleton list.</p>
+         *
+         * @param handler Batch event handler.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder<E> batchHandler(@NotNull BatchEventConsumer<E> handler);
+
         /**
          * Set the subscriber priority.
          *
@@ -131,6 +201,26 @@ public interface EventSubscriber<E extends ChameleonEvent> extends EventConsumer
         @Contract("_ -> this")
         @NotNull Builder<E> acceptsCancelled(boolean acceptsCancelled);
 
+        /**
+         * Call this subscriber asynchronously.
+         * <p>Asynchronous subscribers are called on virtual threads where the runtime supports them,
+         * otherwise on a shared bounded thread pool.</p>
+         *
+         * @return {@code this}.
+         */
+        @Contract("-> this")
+        @NotNull Builder<E> async();
+
+        /**
+         * Call this subscriber asynchronously using the given executor.
+         *
+         * @param executor Executor.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder<E> executor(@NotNull Executor executor);
+
         /**
          * Add a filter for this subscriber.
          *
@@ -171,6 +261,25 @@ public interface EventSubscriber<E extends ChameleonEvent> extends EventConsumer
         @Contract("_ -> this")
         @NotNull Builder<E> expireAfter(int expiresAfter);
 
+        /**
+         * Collapse events with the same key within a time window, so that only the latest event is
+         * handled once the window has elapsed.
+         * <p>The window starts when the first event for a key is received, and the latest event is
+         * then handled using the given scheduler. Handling is synchronous unless an executor has
+         * been set, in which case the latest event is handled by that executor. Exceptions thrown
+         * by the handler are passed to the event bus's exception handler.</p>
+         * <p>Coalescing cannot be combined with a batch handler.</p>
+         *
+         * @param scheduler   Scheduler used to handle the latest event.
+         * @param window      Time window to collapse events within.
+         * @param keyFunction Function used to get the key of an event, for example the user's
+         *                    unique id.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _, _ -> this")
+        @NotNull Builder<E> coalesce(@NotNull Scheduler scheduler, @NotNull Duration window, @NotNull Function<? super E, ?> keyFunction);
+
         /**
          * Build event subscriber.
          *
@@ -23,11 +23,19 @@
  */
 package dev.hypera.chameleon.event;
 
+import dev.hypera.chameleon.scheduler.Scheduler;
 import dev.hypera.chameleon.util.Preconditions;
+import dev.hypera.chameleon.util.internal.ChameleonExecutors;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,24 +45,28 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
     private final @NotNull Class<E> type;
 
     private final @NotNull EventConsumer<E> handler;
+    private final @Nullable BatchEventConsumer<E> batchHandler;
     private final @NotNull EventSubscriptionPriority priority;
     private final boolean acceptsCancelled;
+    private final @Nullable Executor executor;
+    private final @Nullable CoalescingEventConsumer<E> coalescer;
 
-    private final @NotNull Collection<Predicate<E>> filters;
-    private final @NotNull Predicate<E> expireWhen;
-    private final @Nullable AtomicInteger expirationCount;
+    private final @Nullable Predicate<E> filter;
+    private final @Nullable Predicate<E> expiry;
 
     private @Nullable EventSubscription subscription;
 
-    EventSubscriberImpl(@NotNull Class<E> type, @NotNull EventConsumer<E> handler, @NotNull EventSubscriptionPriority priority, boolean acceptsCancelled, @NotNull Collection<Predicate<E>> filters, @NotNull Predicate<E> expireWhen, int expiresAfter) {
+    EventSubscriberImpl(@NotNull Class<E> type, @NotNull EventConsumer<E> handler, @Nullable BatchEventConsumer<E> batchHandler, @NotNull EventSubscriptionPriority priority, boolean acceptsCancelled, @Nullable Executor executor, @Nullable CoalescingEventConsumer<E> coalescer, @Nullable Predicate<E> filter, @Nullable Predicate<E> expireWhen, int expiresAfter) {
         this.type = type;
         this.handler = handler;
+        this.batchHandler = batchHandler;
         this.priority = priority;
         this.acceptsCancelled = acceptsCancelled;
+        this.executor = executor;
+        this.coalescer = coalescer;
 
-        this.filters = filters;
-        this.expireWhen = expireWhen;
-        this.expirationCount = expiresAfter > 0 ? new AtomicInteger(expiresAfter) : null;
+        this.filter = filter;
+        this.expiry = compileExpiry(expireWhen, expiresAfter);
     }
 
     /**
@@ -63,26 +75,114 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
     @Override
     public void on(@NotNull E event) throws Throwable {
         Preconditions.checkNotNull("event", event);
+        if (accepts(event)) {
+            handleAccepted(event);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBatch(@NotNull List<E> events) throws Throwable {
+        Preconditions.checkNotNull("events", events);
+        if (this.filter == null) {
+            handleAcceptedBatch(events);
+            return;
+        }
+
+        List<E> accepted = new ArrayList<>(events.size());
+        for (E event : events) {
+            if (this.filter.test(event)) {
+                accepted.add(event);
+            }
+        }
+        if (!accepted.isEmpty()) {
+            handleAcceptedBatch(accepted);
+        }
+    }
+
+    /**
+     * Handle an event that has already passed {@link #accepts(ChameleonEvent)}.
+     * <p>The event bus checks filters before deciding whether to invoke a subscriber, so it uses
+     * this method to avoid testing them twice.</p>
+     *
+     * @param event Accepted event.
+     *
+     * @throws Throwable if something goes wrong whilst handling the event.
+     */
+    void handleAccepted(@NotNull E event) throws Throwable {
         if (this.subscription == null) {
             throw new IllegalStateException();
         }
 
-        if (!this.filters.isEmpty() && !this.filters.stream().allMatch(filter -> filter.test(event))) {
+        if (this.coalescer != null) {
+            this.coalescer.on(event);
+        } else {
+            handle(event);
+        }
+    }
+
+    /**
+     * Handle the latest event of a coalescing window.
+     * <p>Called by the event bus once the window has elapsed.</p>
+     *
+     * @param event Latest event.
+     *
+     * @throws Throwable if something goes wrong whilst handling the event.
+     */
+    void handleCoalesced(@NotNull E event) throws Throwable {
+        if (this.subscription != null) {
+            handle(event);
+        }
+    }
+
+    /**
+     * Handle a batch of events that have all already passed {@link #accepts(ChameleonEvent)}.
+     *
+     * @param events Accepted events.
+     *
+     * @throws Throwable if something goes wrong whilst handling the events.
+     * @see #handleAccepted(ChameleonEvent)
+     */
+    void handleAcceptedBatch(@NotNull List<E> events) throws Throwable {
+        if (this.batchHandler == null) {
+            for (E event : events) {
+                handleAccepted(event);
+            }
             return;
         }
 
-        if (this.expireWhen.test(event)) {
-            this.subscription.unsubscribe();
+        if (this.subscription == null) {
+            throw new IllegalStateException();
+        }
+
+        if (this.expiry == null) {
+            this.batchHandler.on(events);
             return;
         }
 
-        this.handler.on(event);
+        List<E> accepted = new ArrayList<>(events.size());
+        for (E event : events) {
+            if (!this.expiry.test(event)) {
+                break;
+            }
+            accepted.add(event);
+        }
 
-        if (this.expirationCount != null && this.expirationCount.decrementAndGet() == 0) {
-            this.subscription.unsubscribe();
+        if (!accepted.isEmpty()) {
+            this.batchHandler.on(accepted);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean accepts(@NotNull E event) {
+        return this.filter == null || this.filter.test(event);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -99,6 +199,14 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
         return this.acceptsCancelled;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean acceptsBatches() {
+        return this.batchHandler != null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -107,22 +215,87 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
         return this.type;
     }
 
-    void setSubscription(@NotNull EventSubscription subscription) {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Executor getExecutor() {
+        return this.executor;
+    }
+
+    void setSubscription(@NotNull EventSubscription subscription, @NotNull Consumer<E> coalescedDelivery) {
         Preconditions.checkNotNull("subscription", subscription);
+        Preconditions.checkNotNull("coalescedDelivery", coalescedDelivery);
         this.subscription = subscription;
+        if (this.coalescer != null) {
+            this.coalescer.bind(coalescedDelivery);
+        }
+    }
+
+    private void handle(@NotNull E event) throws Throwable {
+        if (this.expiry == null || this.expiry.test(event)) {
+            this.handler.on(event);
+        }
+    }
+
+    private void expire() {
+        if (this.subscription != null) {
+            this.subscription.unsubscribe();
+        }
+    }
+
+    /**
+     * Compiles the expiration settings into a single predicate, returning {@code true} if the
+     * event should be handled.
+     *
+     * <p>The expiration count is consumed before the handler is called, so that concurrent
+     * deliveries can never exceed it.</p>
+     *
+     * @param expireWhen   Expire when predicate, or {@code null}.
+     * @param expiresAfter Number of events to expire after, or {@code <= 0} to never expire.
+     *
+     * @return compiled expiry predicate, or {@code null} if this subscriber never expires.
+     */
+    private @Nullable Predicate<E> compileExpiry(@Nullable Predicate<E> expireWhen, int expiresAfter) {
+        AtomicInteger remaining = expiresAfter > 0 ? new AtomicInteger(expiresAfter) : null;
+        if (expireWhen == null && remaining == null) {
+            return null;
+        }
+
+        return event -> {
+            if (expireWhen != null && expireWhen.test(event)) {
+                expire();
+                return false;
+            }
+
+            if (remaining != null) {
+                int count = remaining.decrementAndGet();
+                if (count == 0) {
+                    expire();
+                }
+                return count >= 0;
+            }
+            return true;
+        };
     }
 
     static final class BuilderImpl<E extends ChameleonEvent> implements Builder<E> {
 
         private final @NotNull Class<E> type;
         private @Nullable EventConsumer<E> handler;
+        private @Nullable BatchEventConsumer<E> batchHandler;
         private @NotNull EventSubscriptionPriority priority = EventSubscriptionPriority.NORMAL;
         private boolean acceptsCancelled = false;
+        private @Nullable Executor executor;
 
-        private final @NotNull Collection<Predicate<E>> filters = new ArrayList<>();
-        private @NotNull Predicate<E> expireWhen = event -> false;
+        private final @NotNull List<Predicate<E>> filters = new ArrayList<>();
+        private @Nullable Predicate<E> expireWhen;
         private int expiresAfter = -1;
 
+        private @Nullable Scheduler coalesceScheduler;
+        private @Nullable Duration coalesceWindow;
+        private @Nullable Function<? super E, ?> coalesceKey;
+
         BuilderImpl(@NotNull Class<E> type) {
             Preconditions.checkNotNull("type", type);
             this.type = type;
@@ -138,6 +311,16 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<E> batchHandler(@NotNull BatchEventConsumer<E> handler) {
+            Preconditions.checkNotNull("handler", handler);
+            this.batchHandler = handler;
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -157,6 +340,24 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<E> async() {
+            return executor(ChameleonExecutors.async());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<E> executor(@NotNull Executor executor) {
+            Preconditions.checkNotNull("executor", executor);
+            this.executor = executor;
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -196,18 +397,79 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<E> coalesce(@NotNull Scheduler scheduler, @NotNull Duration window, @NotNull Function<? super E, ?> keyFunction) {
+            Preconditions.checkNotNull("scheduler", scheduler);
+            Preconditions.checkNotNull("window", window);
+            Preconditions.checkNotNull("keyFunction", keyFunction);
+            Preconditions.checkArgument(!window.isNegative(), "window cannot be negative");
+            this.coalesceScheduler = scheduler;
+            this.coalesceWindow = window;
+            this.coalesceKey = keyFunction;
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public @NotNull EventSubscriber<E> build() {
-            Preconditions.checkState(this.handler != null, "handler is required");
+            Preconditions.checkState(this.handler != null || this.batchHandler != null, "handler is required");
+            Preconditions.checkState(this.coalesceScheduler == null || this.batchHandler == null, "coalesce cannot be combined with a batch handler");
+            BatchEventConsumer<E> batchHandler = this.batchHandler;
+            EventConsumer<E> handler = this.handler != null ? this.handler
+                : event -> Objects.requireNonNull(batchHandler).on(Collections.singletonList(event));
+            CoalescingEventConsumer<E> coalescer = null;
+            if (this.coalesceScheduler != null && this.coalesceWindow != null && this.coalesceKey != null) {
+                // Windows elapse on the scheduler, then the event bus hands the latest event to the
+                // executor, if there is one.
+                coalescer = new CoalescingEventConsumer<>(
+                    this.coalesceScheduler, this.coalesceWindow,
+                    this.coalesceKey, this.executor != null
+                );
+            }
             return new EventSubscriberImpl<>(
-                this.type, Objects.requireNonNull(this.handler), this.priority,
-                this.acceptsCancelled, this.filters, this.expireWhen, this.expiresAfter
+                this.type, handler, batchHandler, this.priority, this.acceptsCancelled,
+                this.executor, coalescer, compileFilter(this.filters), this.expireWhen, this.expiresAfter
             );
         }
 
+        /**
+         * Compiles the given filters into a single predicate, specialised for the common cases of
+         * no filters and a single filter.
+         *
+         * @param filters Filters to compile.
+         * @param <E>     Event type.
+         *
+         * @return compiled filter, or {@code null} if there are no filters.
+         */
+        private static <E> @Nullable Predicate<E> compileFilter(@NotNull List<Predicate<E>> filters) {
+            switch (filters.size()) {
+                case 0:
+                    return null;
+                case 1:
+                    return filters.get(0);
+                default:
+                    Predicate<E>[] array = toArray(filters);
+                    return event -> {
+                        for (Predicate<E> filter : array) {
+                            if (!filter.test(event)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    };
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E> @NotNull Predicate<E>[] toArray(@NotNull List<Predicate<E>> filters) {
+            return (Predicate<E>[]) filters.toArray(new Predicate<?>[0]);
+        }
+
     }
 
 }
@@ -0,0 +1,184 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.event.annotations.Subscribe;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link Subscribe} annotated listener method.
+ *
+ * <p>Listener methods are bound to a generated {@link EventConsumer} implementation using
+ * {@link LambdaMetafactory}, so invoking them costs the same as a direct method call. Listener
+ * methods are only discovered once per listener class.</p>
+ */
+final class ListenerMethod {
+
+    private static final @NotNull MethodType CONSUMER_TYPE = MethodType.methodType(void.class, ChameleonEvent.class);
+    private static final @NotNull MethodType BOUND_TYPE = MethodType.methodType(void.class, Object.class, ChameleonEvent.class);
+    private static final @NotNull ClassValue<ListenerMethod[]> CACHE = new ClassValue<ListenerMethod[]>() {
+        @Override
+        protected ListenerMethod @NotNull [] computeValue(@NotNull Class<?> type) {
+            return discover(type);
+        }
+    };
+
+    private final @NotNull Class<? extends ChameleonEvent> type;
+    private final @NotNull Subscribe subscribe;
+    private final @NotNull MethodHandle handle;
+    private final @Nullable MethodHandle factory;
+    private final boolean bound;
+
+    private ListenerMethod(@NotNull Class<? extends ChameleonEvent> type, @NotNull Subscribe subscribe, @NotNull MethodHandle handle, @Nullable MethodHandle factory, boolean bound) {
+        this.type = type;
+        this.subscribe = subscribe;
+        this.handle = handle;
+        this.factory = factory;
+        this.bound = bound;
+    }
+
+    /**
+     * Returns the listener methods declared by the given listener class and its superclasses.
+     *
+     * @param listenerClass Listener class.
+     *
+     * @return listener methods.
+     * @throws IllegalArgumentException if a listener method is invalid.
+     */
+    static ListenerMethod @NotNull [] of(@NotNull Class<?> listenerClass) {
+        return CACHE.get(listenerClass);
+    }
+
+    /**
+     * Creates a new event subscriber that calls this method on the given listener.
+     *
+     * @param listener Listener instance.
+     *
+     * @return new event subscriber.
+     */
+    @NotNull EventSubscriber<?> createSubscriber(@NotNull Object listener) {
+        return createSubscriber(this.type, listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends ChameleonEvent> @NotNull EventSubscriber<E> createSubscriber(@NotNull Class<E> type, @NotNull Object listener) {
+        EventConsumer<E> consumer;
+        if (this.factory != null) {
+            try {
+                consumer = (EventConsumer<E>) (this.bound ? this.factory.invoke(listener) : this.factory.invoke());
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Failed to create event consumer for " + type.getName(), ex);
+            }
+        } else {
+            MethodHandle invoker = this.bound ? this.handle.bindTo(listener) : this.handle;
+            consumer = event -> invoker.invokeExact((ChameleonEvent) event);
+        }
+
+        EventSubscriber.Builder<E> builder = EventSubscriber.builder(type)
+            .priority(this.subscribe.priority())
+            .acceptsCancelled(this.subscribe.acceptsCancelled())
+            .handler(consumer);
+        if (this.subscribe.async()) {
+            builder.async();
+        }
+        return builder.build();
+    }
+
+    private static ListenerMethod @NotNull [] discover(@NotNull Class<?> listenerClass) {
+        List<ListenerMethod> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Class<?> current = listenerClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                Subscribe subscribe = method.getAnnotation(Subscribe.class);
+                if (subscribe == null || method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+
+                // Skip methods that have been overridden by a subclass
+                if (!seen.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+
+                methods.add(create(current, method, subscribe));
+            }
+        }
+        return methods.toArray(new ListenerMethod[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull ListenerMethod create(@NotNull Class<?> declaringClass, @NotNull Method method, @NotNull Subscribe subscribe) {
+        Class<?>[] parameters = method.getParameterTypes();
+        if (parameters.length != 1 || !ChameleonEvent.class.isAssignableFrom(parameters[0])) {
+            throw new IllegalArgumentException(String.format(
+                "Listener method %s#%s must have a single ChameleonEvent parameter",
+                declaringClass.getName(), method.getName()
+            ));
+        }
+
+        Class<? extends ChameleonEvent> type = (Class<? extends ChameleonEvent>) parameters[0];
+        boolean bound = !Modifier.isStatic(method.getModifiers());
+        try {
+            Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            return new ListenerMethod(
+                type, subscribe, handle.asType(bound ? BOUND_TYPE : CONSUMER_TYPE),
+                createFactory(lookup, declaringClass, handle, type, bound), bound
+            );
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            throw new IllegalArgumentException(String.format(
+                "Failed to access listener method %s#%s", declaringClass.getName(), method.getName()
+            ), ex);
+        }
+    }
+
+    private static @Nullable MethodHandle createFactory(@NotNull Lookup lookup, @NotNull Class<?> declaringClass, @NotNull MethodHandle handle, @NotNull Class<?> type, boolean bound) {
+        MethodType factoryType = bound ? MethodType.methodType(EventConsumer.class, declaringClass) : MethodType.methodType(EventConsumer.class);
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(
+                lookup, "on", factoryType, CONSUMER_TYPE, handle, MethodType.methodType(void.class, type)
+            );
+            return callSite.getTarget();
+        } catch (Throwable ex) {
+            // LambdaMetafactory requires full access to the listener class, which may not be
+            // available if the listener was loaded by another module. The method handle will be
+            // invoked directly instead.
+            return null;
+        }
+    }
+
+}
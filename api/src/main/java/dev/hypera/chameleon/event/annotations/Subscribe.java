@@ -0,0 +1,66 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.annotations;
+
+import dev.hypera.chameleon.event.EventSubscriptionPriority;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Marks a method as an event subscriber.
+ *
+ * <p>Annotated methods must accept a single event parameter, and are registered when the object
+ * declaring them is passed to
+ * {@link dev.hypera.chameleon.event.EventBus#registerListener(Object)}.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Subscribe {
+
+    /**
+     * Get subscriber priority.
+     *
+     * @return subscriber priority.
+     */
+    @NotNull EventSubscriptionPriority priority() default EventSubscriptionPriority.NORMAL;
+
+    /**
+     * Get whether the subscriber should be given cancelled events.
+     *
+     * @return {@code true} if cancelled events should be handled, otherwise {@code false}.
+     */
+    boolean acceptsCancelled() default false;
+
+    /**
+     * Get whether the subscriber should be called asynchronously.
+     *
+     * @return {@code true} if the subscriber should be called asynchronously, otherwise
+     *     {@code false}.
+     */
+    boolean async() default false;
+
+}
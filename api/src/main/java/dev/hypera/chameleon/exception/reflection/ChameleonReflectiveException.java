@@ -101,9 +101,25 @@ public class ChameleonReflectiveException extends ChameleonRuntimeException {
      */
     @Contract(value = "_, _, _ -> new", pure = true)
     public static @NotNull ChameleonReflectiveException createMethodInvocationFailure(@NotNull Method method, @NotNull Object obj, @NotNull Throwable ex) {
+        return createMethodInvocationFailure(getMethodSignature(method), obj, ex);
+    }
+
+    /**
+     * Create a failed to call method exception.
+     * <p>Example message:
+     * {@code Failed to invoke method get(String) on dev.hypera.chameleon.Example}</p>
+     *
+     * @param method Method signature.
+     * @param obj    Object method was called on.
+     * @param ex     Exception thrown.
+     *
+     * @return new exception.
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static @NotNull ChameleonReflectiveException createMethodInvocationFailure(@NotNull String method, @NotNull Object obj, @NotNull Throwable ex) {
         return create("Failed to invoke method %s on %s",
             ex,
-            getMethodSignature(method),
+            method,
             obj.getClass().getCanonicalName()
         );
     }
@@ -0,0 +1,486 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import dev.hypera.chameleon.util.Preconditions;
+import dev.hypera.chameleon.util.internal.ChameleonExecutors;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Hashed wheel timer, used to execute asynchronous tasks independently of the platform scheduler.
+ *
+ * <p>Timeouts are hashed by their deadline into a ring of buckets, each covering one tick. A single
+ * worker thread advances through the ring and hands expired timeouts to an executor, so scheduling
+ * and cancelling are both constant time regardless of how many timeouts are pending. Between
+ * deadlines, the worker thread parks until the earliest pending deadline, which it tracks as
+ * timeouts are added and only searches the wheel for once that deadline has passed. Adding a
+ * timeout only wakes the worker if it is due before the worker would otherwise wake, and cancelled
+ * timeouts are unlinked the next time the worker wakes.</p>
+ */
+@Internal
+final class HashedWheelTimer {
+
+    private static final int STATE_WAITING = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_CANCELLED = 2;
+    private static final int STATE_DONE = 3;
+
+    // Longest the worker parks while timeouts are pending, so cancelled timeouts are unlinked
+    // regularly even when the next deadline is far away.
+    private static final long MAX_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final @NotNull Executor executor;
+    private final @NotNull Consumer<Throwable> exceptionHandler;
+    private final long tickNanos;
+    private final @NotNull Bucket[] wheel;
+    private final int mask;
+
+    private final @NotNull Queue<Timeout> additions = new ConcurrentLinkedQueue<>();
+    private final @NotNull Queue<Timeout> cancellations = new ConcurrentLinkedQueue<>();
+    private final @NotNull AtomicLong pending = new AtomicLong();
+    private final @NotNull AtomicInteger workerState = new AtomicInteger(); // 0 = new, 1 = started, 2 = closed
+    private final long startTime = System.nanoTime();
+    private volatile @Nullable Thread worker;
+    private volatile long parkedUntil = Long.MAX_VALUE;
+    private final @NotNull AtomicLong iterations = new AtomicLong();
+    private long tick = 0;
+    private long earliestTick = Long.MAX_VALUE;
+
+    /**
+     * Hashed wheel timer constructor.
+     *
+     * @param executor         Executor used to run expired timeouts.
+     * @param exceptionHandler Handler for exceptions thrown by timeouts.
+     * @param tickNanos        Duration of a single tick, in nanoseconds.
+     * @param wheelSize        Number of buckets in the wheel, rounded up to a power of two.
+     */
+    HashedWheelTimer(@NotNull Executor executor, @NotNull Consumer<Throwable> exceptionHandler, long tickNanos, int wheelSize) {
+        Preconditions.checkNotNull("executor", executor);
+        Preconditions.checkNotNull("exceptionHandler", exceptionHandler);
+        Preconditions.checkArgument(tickNanos > 0, "tickNanos must be positive");
+        Preconditions.checkArgument(wheelSize > 0 && wheelSize <= 1 << 20, "wheelSize must be between 1 and 2^20");
+        this.executor = executor;
+        this.exceptionHandler = exceptionHandler;
+        this.tickNanos = tickNanos;
+
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.wheel = new Bucket[Math.max(size, 1)];
+        for (int i = 0; i < this.wheel.length; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = this.wheel.length - 1;
+    }
+
+    /**
+     * Creates a new hashed wheel timer with millisecond ticks, executing timeouts on the shared
+     * asynchronous executor.
+     *
+     * @param exceptionHandler Handler for exceptions thrown by timeouts.
+     *
+     * @return new timer.
+     */
+    static @NotNull HashedWheelTimer create(@NotNull Consumer<Throwable> exceptionHandler) {
+        return new HashedWheelTimer(ChameleonExecutors.async(), exceptionHandler, TimeUnit.MILLISECONDS.toNanos(1), 1024);
+    }
+
+    /**
+     * Schedules the given task.
+     *
+     * <p>A repeating task is rescheduled once each execution has finished, so executions of the
+     * same task never overlap. Executions that are missed because the previous execution ran for
+     * too long are skipped.</p>
+     *
+     * @param task        Task to be executed.
+     * @param delayNanos  Delay before the first execution, in nanoseconds.
+     * @param periodNanos Period between executions, in nanoseconds, or {@code 0} to only execute
+     *                    the task once.
+     *
+     * @return scheduled task.
+     * @throws IllegalStateException if this timer has been closed.
+     */
+    @NotNull ScheduledTask schedule(@NotNull Runnable task, long delayNanos, long periodNanos) {
+        Preconditions.checkNotNull("task", task);
+        Preconditions.checkState(this.workerState.get() != 2, "timer has been closed");
+        startWorker();
+
+        Timeout timeout = new Timeout(task, System.nanoTime() + Math.max(delayNanos, 0), Math.max(periodNanos, 0));
+        this.pending.incrementAndGet();
+        this.additions.add(timeout);
+        if (this.workerState.get() == 2) {
+            // The timer was closed concurrently and may already have expunged its additions.
+            timeout.expunge();
+        } else {
+            wakeWorker(timeout.deadline);
+        }
+        return timeout;
+    }
+
+    /**
+     * Executes the given task immediately on this timer's executor, without scheduling a timeout.
+     *
+     * @param task Task to be executed.
+     *
+     * @throws RejectedExecutionException if this timer has been closed.
+     */
+    void execute(@NotNull Runnable task) {
+        Preconditions.checkNotNull("task", task);
+        if (this.workerState.get() == 2) {
+            throw new RejectedExecutionException("timer has been closed");
+        }
+        this.executor.execute(task);
+    }
+
+    /**
+     * Returns the number of timeouts that have been scheduled and not yet completed or cancelled.
+     *
+     * @return pending timeouts.
+     */
+    long pending() {
+        return this.pending.get();
+    }
+
+    /**
+     * Returns the number of times the worker thread has woken up.
+     *
+     * @return worker iterations.
+     */
+    @VisibleForTesting
+    long iterations() {
+        return this.iterations.get();
+    }
+
+    /**
+     * Cancels every pending timeout and stops the worker thread.
+     */
+    void close() {
+        if (this.workerState.getAndSet(2) == 2) {
+            return;
+        }
+
+        Thread thread = this.worker;
+        if (thread != null) {
+            thread.interrupt();
+        } else {
+            // The worker never started, so only additions can hold timeouts.
+            expungeAll();
+        }
+    }
+
+    private void startWorker() {
+        if (this.workerState.get() == 0 && this.workerState.compareAndSet(0, 1)) {
+            Thread thread = ChameleonExecutors.newThreadFactory("chameleon-timer").newThread(this::work);
+            this.worker = thread;
+            thread.start();
+        }
+    }
+
+    private void wakeWorker(long deadline) {
+        // The worker publishes when it will next wake before checking for additions and parking,
+        // so it either sees this timeout or this sees the time it is parked until.
+        long parkedUntil = this.parkedUntil;
+        if (parkedUntil != Long.MAX_VALUE && deadline - parkedUntil >= 0) {
+            return;
+        }
+
+        Thread thread = this.worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void work() {
+        while (this.workerState.get() == 1) {
+            this.iterations.incrementAndGet();
+            long currentTick = (System.nanoTime() - this.startTime) / this.tickNanos;
+            processCancellations();
+            transferAdditions(currentTick);
+
+            // Visit every bucket between the last processed tick and the current tick, at most
+            // once each, in case the worker fell behind.
+            long ticks = Math.min(currentTick - this.tick, this.wheel.length);
+            for (long i = 1; i <= ticks; i++) {
+                this.wheel[(int) ((this.tick + i) & this.mask)].expire(currentTick);
+            }
+            this.tick = currentTick;
+
+            // Only search the wheel once the earliest known deadline has passed, additions keep it
+            // up to date otherwise.
+            if (this.earliestTick <= currentTick) {
+                this.earliestTick = nextDeadlineTick(currentTick);
+            }
+
+            // Sleep until the earliest deadline. Adding an earlier timeout wakes the worker.
+            if (this.earliestTick == Long.MAX_VALUE) {
+                this.parkedUntil = Long.MAX_VALUE;
+                if (this.additions.isEmpty()) {
+                    LockSupport.park(this);
+                }
+            } else {
+                long now = System.nanoTime();
+                long wakeAt = this.startTime + this.earliestTick * this.tickNanos;
+                if (wakeAt - now > MAX_PARK_NANOS) {
+                    wakeAt = now + MAX_PARK_NANOS;
+                }
+                this.parkedUntil = wakeAt;
+                if (this.additions.isEmpty()) {
+                    LockSupport.parkNanos(this, wakeAt - now);
+                }
+            }
+        }
+
+        expungeAll();
+    }
+
+    private long nextDeadlineTick(long currentTick) {
+        // Walk the buckets in deadline order. A timeout in the bucket for tick t that is due on
+        // this revolution is the earliest, as anything in an earlier bucket is at least one
+        // revolution away. Otherwise, the earliest deadline seen over one revolution is used.
+        long earliest = Long.MAX_VALUE;
+        for (int i = 1; i <= this.wheel.length; i++) {
+            long candidate = currentTick + i;
+            for (Timeout timeout = this.wheel[(int) (candidate & this.mask)].head; timeout != null; timeout = timeout.next) {
+                if (timeout.deadlineTick <= candidate) {
+                    return candidate;
+                }
+                earliest = Math.min(earliest, timeout.deadlineTick);
+            }
+        }
+        return earliest;
+    }
+
+    private void transferAdditions(long currentTick) {
+        Timeout timeout;
+        while ((timeout = this.additions.poll()) != null) {
+            if (timeout.state.get() == STATE_CANCELLED) {
+                continue;
+            }
+
+            long deadlineTick = (timeout.deadline - this.startTime + this.tickNanos - 1) / this.tickNanos;
+            // Timeouts that are already due are expired on the next tick.
+            timeout.deadlineTick = Math.max(deadlineTick, currentTick + 1);
+            this.wheel[(int) (timeout.deadlineTick & this.mask)].add(timeout);
+            this.earliestTick = Math.min(this.earliestTick, timeout.deadlineTick);
+        }
+    }
+
+    private void processCancellations() {
+        Timeout timeout;
+        while ((timeout = this.cancellations.poll()) != null) {
+            Bucket bucket = timeout.bucket;
+            if (bucket != null) {
+                bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void expungeAll() {
+        for (Bucket bucket : this.wheel) {
+            bucket.clear();
+        }
+        Timeout timeout;
+        while ((timeout = this.additions.poll()) != null) {
+            timeout.expunge();
+        }
+        this.cancellations.clear();
+    }
+
+    private void execute(@NotNull Timeout timeout) {
+        if (!timeout.state.compareAndSet(STATE_WAITING, STATE_RUNNING)) {
+            return;
+        }
+
+        try {
+            this.executor.execute(timeout);
+        } catch (RejectedExecutionException ex) {
+            timeout.state.set(STATE_DONE);
+            this.pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * A scheduled task, linked into the bucket for its deadline.
+     */
+    private final class Timeout implements ScheduledTask, Runnable {
+
+        private final @NotNull Runnable task;
+        private final long period;
+        private final @NotNull AtomicInteger state = new AtomicInteger(STATE_WAITING);
+        private volatile long deadline;
+
+        // Only accessed by the worker thread.
+        private long deadlineTick;
+        private @Nullable Bucket bucket;
+        private @Nullable Timeout previous;
+        private @Nullable Timeout next;
+
+        private Timeout(@NotNull Runnable task, long deadline, long period) {
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            int current;
+            do {
+                current = this.state.get();
+                if (current == STATE_CANCELLED || current == STATE_DONE) {
+                    return;
+                }
+            } while (!this.state.compareAndSet(current, STATE_CANCELLED));
+
+            pending.decrementAndGet();
+            if (current == STATE_WAITING) {
+                // Unlink from the bucket the next time the worker wakes.
+                cancellations.add(this);
+            }
+        }
+
+        /**
+         * Cancel this timeout because the timer is closing. Timeouts that are currently running
+         * are left to finish, and account for themselves once they do.
+         */
+        private void expunge() {
+            if (this.state.compareAndSet(STATE_WAITING, STATE_CANCELLED)) {
+                pending.decrementAndGet();
+            }
+        }
+
+        /**
+         * Execute the task, then reschedule it if it repeats.
+         */
+        @Override
+        public void run() {
+            try {
+                this.task.run();
+            } catch (Throwable ex) {
+                exceptionHandler.accept(ex);
+            }
+
+            if (this.period > 0 && workerState.get() == 1) {
+                long now = System.nanoTime();
+                long next = this.deadline + this.period;
+                if (next - now < 0) {
+                    // Skip executions that were missed while this one was running.
+                    next += ((now - next) / this.period + 1) * this.period;
+                }
+                this.deadline = next;
+
+                if (this.state.compareAndSet(STATE_RUNNING, STATE_WAITING)) {
+                    additions.add(this);
+                    if (workerState.get() == 2) {
+                        expunge();
+                    } else {
+                        wakeWorker(next);
+                    }
+                }
+            } else if (this.state.compareAndSet(STATE_RUNNING, STATE_DONE)) {
+                pending.decrementAndGet();
+            }
+        }
+
+    }
+
+    /**
+     * Doubly-linked list of timeouts, only accessed by the worker thread.
+     */
+    private final class Bucket {
+
+        private @Nullable Timeout head;
+        private @Nullable Timeout tail;
+
+        private void add(@NotNull Timeout timeout) {
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = this.tail = timeout;
+            } else {
+                Timeout last = this.tail;
+                if (last != null) {
+                    last.next = timeout;
+                }
+                timeout.previous = last;
+                this.tail = timeout;
+            }
+        }
+
+        private void remove(@NotNull Timeout timeout) {
+            Timeout previous = timeout.previous;
+            Timeout next = timeout.next;
+            if (previous != null) {
+                previous.next = next;
+            }
+            if (next != null) {
+                next.previous = previous;
+            }
+            if (timeout == this.head) {
+                this.head = next;
+            }
+            if (timeout == this.tail) {
+                this.tail = previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        private void expire(long currentTick) {
+            Timeout timeout = this.head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.deadlineTick <= currentTick) {
+                    remove(timeout);
+                    execute(timeout);
+                }
+                timeout = next;
+            }
+        }
+
+        private void clear() {
+            Timeout timeout = this.head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.expunge();
+                remove(timeout);
+                timeout = next;
+            }
+        }
+
+    }
+
+}
@@ -23,9 +23,22 @@
  */
 package dev.hypera.chameleon.scheduler;
 
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.user.User;
 import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Scheduler.
@@ -33,6 +46,14 @@ import org.jetbrains.annotations.NotNull;
 @NonExtendable
 public abstract class Scheduler {
 
+    private final @NotNull HashedWheelTimer asyncTimer = HashedWheelTimer.create(this::handleException);
+    private final @NotNull Executor asyncExecutor = this.asyncTimer::execute;
+    private final @NotNull Executor syncExecutor = task -> scheduleSyncTask(task, Schedule.none(), Schedule.none());
+    private final @NotNull Set<TaskImpl> tasks = ConcurrentHashMap.newKeySet();
+    private final @NotNull Object watchdogLock = new Object();
+    private @Nullable ScheduledTask watchdog;
+    private volatile @Nullable ChameleonLogger logger;
+
     /**
      * Submit a task to be scheduled.
      *
@@ -45,22 +66,297 @@ public abstract class Scheduler {
         Schedule delay = task instanceof TaskImpl ? ((TaskImpl) task).getDelay() : Schedule.none();
         Schedule repeat = task instanceof TaskImpl ? ((TaskImpl) task).getRepeat() : Schedule.none();
 
+        TaskImpl taskImpl = task instanceof TaskImpl ? (TaskImpl) task : null;
+        User user = taskImpl != null ? taskImpl.getUser() : null;
+        String world = taskImpl != null ? taskImpl.getWorld() : null;
+        int x = taskImpl != null ? taskImpl.getX() : 0;
+        int z = taskImpl != null ? taskImpl.getZ() : 0;
+
+        Runnable runnable = task::run;
+        Runnable retired = () -> {};
+        if (taskImpl != null) {
+            // Track the task until it has been cancelled, or has finished if it does not repeat.
+            if (repeat.toDuration().toNanos() <= 0) {
+                runnable = () -> {
+                    try {
+                        taskImpl.run();
+                    } finally {
+                        this.tasks.remove(taskImpl);
+                    }
+                };
+            }
+            retired = taskImpl::cancel;
+        }
+
         ScheduledTask scheduledTask;
         if (task.isAsync()) {
-            scheduledTask = scheduleAsyncTask(task::run, delay, repeat);
+            scheduledTask = scheduleAsyncTask(runnable, delay, repeat);
+        } else if (user != null) {
+            scheduledTask = scheduleUserTask(runnable, retired, user, delay, repeat);
+        } else if (world != null) {
+            scheduledTask = scheduleLocationTask(runnable, world, x, z, delay, repeat);
         } else {
-            scheduledTask = scheduleSyncTask(task::run, delay, repeat);
+            scheduledTask = scheduleSyncTask(runnable, delay, repeat);
         }
 
-        if (task instanceof TaskImpl) {
-            ((TaskImpl) task).setScheduledTask(scheduledTask);
+        if (taskImpl != null) {
+            // Cancellation goes through the task, so its state always matches the platform task.
+            ScheduledTask platformTask = scheduledTask;
+            taskImpl.setScheduledTask(() -> {
+                platformTask.cancel();
+                this.tasks.remove(taskImpl);
+            });
+
+            // The task may have finished or been cancelled before it was tracked.
+            this.tasks.add(taskImpl);
+            if (taskImpl.isFinished()) {
+                this.tasks.remove(taskImpl);
+            }
+            return taskImpl;
         }
 
         return scheduledTask;
     }
 
-    protected abstract @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat);
+    /**
+     * Returns an executor that executes tasks asynchronously.
+     *
+     * <p>Tasks are handed straight to the asynchronous executor, without being scheduled.</p>
+     *
+     * @return asynchronous executor.
+     */
+    public @NotNull Executor asyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    /**
+     * Returns an executor that executes tasks synchronously, on the platform's main thread.
+     *
+     * <p>On platforms that do not have a main thread, tasks are executed asynchronously.</p>
+     *
+     * @return synchronous executor.
+     */
+    public @NotNull Executor syncExecutor() {
+        return this.syncExecutor;
+    }
+
+    /**
+     * Run a task asynchronously.
+     *
+     * @param task Task to be executed.
+     *
+     * @return future, completed once the task has been executed.
+     */
+    public final @NotNull CompletableFuture<Void> runAsync(@NotNull Runnable task) {
+        Preconditions.checkNotNull("task", task);
+        return CompletableFuture.runAsync(task, asyncExecutor());
+    }
+
+    /**
+     * Run a task synchronously.
+     *
+     * @param task Task to be executed.
+     *
+     * @return future, completed once the task has been executed.
+     */
+    public final @NotNull CompletableFuture<Void> runSync(@NotNull Runnable task) {
+        Preconditions.checkNotNull("task", task);
+        return CompletableFuture.runAsync(task, syncExecutor());
+    }
+
+    /**
+     * Supply a value asynchronously.
+     *
+     * @param supplier Value supplier.
+     * @param <T>      Value type.
+     *
+     * @return future, completed with the supplied value.
+     */
+    public final <T> @NotNull CompletableFuture<T> supplyAsync(@NotNull Supplier<T> supplier) {
+        Preconditions.checkNotNull("supplier", supplier);
+        return CompletableFuture.supplyAsync(supplier, asyncExecutor());
+    }
+
+    /**
+     * Supply a value synchronously.
+     *
+     * @param supplier Value supplier.
+     * @param <T>      Value type.
+     *
+     * @return future, completed with the supplied value.
+     */
+    public final <T> @NotNull CompletableFuture<T> supplySync(@NotNull Supplier<T> supplier) {
+        Preconditions.checkNotNull("supplier", supplier);
+        return CompletableFuture.supplyAsync(supplier, syncExecutor());
+    }
+
+    /**
+     * Set the logger used to report exceptions thrown by asynchronous tasks.
+     *
+     * <p>Until a logger has been set, exceptions are passed to the executing thread's uncaught
+     * exception handler.</p>
+     *
+     * @param logger Logger.
+     */
+    @Internal
+    public final void setLogger(@NotNull ChameleonLogger logger) {
+        this.logger = Preconditions.checkNotNull("logger", logger);
+    }
+
+    private void handleException(@NotNull Throwable throwable) {
+        ChameleonLogger currentLogger = this.logger;
+        if (currentLogger != null) {
+            currentLogger.error("An exception was thrown while executing an asynchronous task", throwable);
+        } else {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+        }
+    }
+
+    /**
+     * Take a snapshot of the execution metrics of every scheduled task.
+     *
+     * <p>Tasks are included until they have been cancelled, or, if they do not repeat, until they
+     * have been executed.</p>
+     *
+     * @return task metrics.
+     */
+    public @NotNull List<TaskMetrics> getTaskMetrics() {
+        return this.tasks.stream().map(TaskImpl::getMetrics).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Enable the slow task watchdog.
+     *
+     * <p>The watchdog logs a warning, including the stack trace of the executing thread, for each
+     * execution of a synchronous task that runs for longer than the given budget. Enabling the
+     * watchdog again replaces the previous budget and logger.</p>
+     *
+     * @param budget Execution time budget.
+     * @param logger Logger to report slow tasks to.
+     */
+    public final void enableWatchdog(@NotNull Duration budget, @NotNull ChameleonLogger logger) {
+        Preconditions.checkNotNull("budget", budget);
+        Preconditions.checkNotNull("logger", logger);
+        Preconditions.checkArgument(!budget.isNegative() && !budget.isZero(), "budget must be positive");
+
+        long budgetNanos = budget.toNanos();
+        // Check twice per budget, so a slow task is reported at most half a budget late.
+        long period = Math.max(budgetNanos / 2, TimeUnit.MILLISECONDS.toNanos(1));
+        synchronized (this.watchdogLock) {
+            disableWatchdog();
+            this.watchdog = this.asyncTimer.schedule(() -> checkSlowTasks(budgetNanos, logger), period, period);
+        }
+    }
+
+    /**
+     * Disable the slow task watchdog.
+     */
+    public final void disableWatchdog() {
+        synchronized (this.watchdogLock) {
+            if (this.watchdog != null) {
+                this.watchdog.cancel();
+                this.watchdog = null;
+            }
+        }
+    }
+
+    private void checkSlowTasks(long budgetNanos, @NotNull ChameleonLogger logger) {
+        long now = System.nanoTime();
+        for (TaskImpl task : this.tasks) {
+            if (task.isAsync()) {
+                continue;
+            }
+
+            Thread thread = task.getRecorder().checkBudget(now, budgetNanos);
+            if (thread != null) {
+                Throwable stack = new SlowTaskStackTrace(thread);
+                logger.warn(String.format(
+                    "Synchronous task '%s' has been running for %dms on %s, exceeding its %dms budget",
+                    task.getName(), task.getRecorder().runningFor(now).toMillis(), thread.getName(),
+                    TimeUnit.NANOSECONDS.toMillis(budgetNanos)
+                ), stack);
+            }
+        }
+    }
+
+    /**
+     * Cancel all asynchronous tasks and stop the asynchronous timer.
+     *
+     * <p>Synchronous tasks are owned by the platform scheduler, and are not cancelled, but are no
+     * longer included in {@link #getTaskMetrics()}.</p>
+     */
+    public void close() {
+        this.asyncTimer.close();
+        this.tasks.clear();
+    }
+
+    /**
+     * Schedule an asynchronous task.
+     *
+     * <p>Asynchronous tasks are timed by a Chameleon-owned hashed wheel timer with millisecond
+     * precision, and executed on virtual threads where available, rather than relying on the
+     * platform scheduler.</p>
+     *
+     * @param task   Task to be executed.
+     * @param delay  Delay before the first execution.
+     * @param repeat Period between executions, or {@link Schedule#none()}.
+     *
+     * @return scheduled task.
+     */
+    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        return this.asyncTimer.schedule(task, delay.toDuration().toNanos(), repeat.toDuration().toNanos());
+    }
+
+    /**
+     * Schedule a synchronous task, on the thread that owns the given user.
+     *
+     * <p>Platforms without per-entity threading execute the task on the main thread.</p>
+     *
+     * @param task    Task to be executed.
+     * @param retired Callback to be executed if the user is removed before the task completes.
+     * @param user    Target user.
+     * @param delay   Delay before the first execution.
+     * @param repeat  Period between executions, or {@link Schedule#none()}.
+     *
+     * @return scheduled task.
+     */
+    protected @NotNull ScheduledTask scheduleUserTask(@NotNull Runnable task, @NotNull Runnable retired, @NotNull User user, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        return scheduleSyncTask(task, delay, repeat);
+    }
+
+    /**
+     * Schedule a synchronous task, on the thread that owns the given location.
+     *
+     * <p>Platforms without per-region threading execute the task on the main thread.</p>
+     *
+     * @param task   Task to be executed.
+     * @param world  World name.
+     * @param x      Block x coordinate.
+     * @param z      Block z coordinate.
+     * @param delay  Delay before the first execution.
+     * @param repeat Period between executions, or {@link Schedule#none()}.
+     *
+     * @return scheduled task.
+     */
+    protected @NotNull ScheduledTask scheduleLocationTask(@NotNull Runnable task, @NotNull String world, int x, int z, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        return scheduleSyncTask(task, delay, repeat);
+    }
 
     protected abstract @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat);
 
+    /**
+     * Stack trace of a thread executing a slow task.
+     */
+    private static final class SlowTaskStackTrace extends Throwable {
+
+        private static final long serialVersionUID = 1L;
+
+        private SlowTaskStackTrace(@NotNull Thread thread) {
+            super("Stack trace of " + thread.getName(), null, false, true);
+            setStackTrace(thread.getStackTrace());
+        }
+
+    }
+
 }
@@ -24,6 +24,7 @@
 package dev.hypera.chameleon.scheduler;
 
 import dev.hypera.chameleon.scheduler.TaskImpl.BuilderImpl;
+import dev.hypera.chameleon.user.User;
 import java.util.function.BooleanSupplier;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.Contract;
@@ -90,6 +91,18 @@ public interface Task {
     @NonExtendable
     interface Builder {
 
+        /**
+         * Set the name of this task, used to identify it in metrics and watchdog reports.
+         *
+         * <p>Defaults to the class name of the task runnable.</p>
+         *
+         * @param name Task name.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder name(@NotNull String name);
+
         /**
          * Execute this task synchronously.
          *
@@ -106,6 +119,36 @@ public interface Task {
         @Contract("-> this")
         @NotNull Builder async();
 
+        /**
+         * Execute this task synchronously, on the thread that owns the given user.
+         *
+         * <p>On Folia, this task will be executed by the user's entity scheduler, and will stop
+         * executing once the user leaves. On other platforms, this task will be executed on the
+         * main thread.</p>
+         *
+         * @param user Target user.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder forUser(@NotNull User user);
+
+        /**
+         * Execute this task synchronously, on the thread that owns the given location.
+         *
+         * <p>On Folia, this task will be executed by the region scheduler for the chunk containing
+         * the given block coordinates. On other platforms, this task will be executed on the main
+         * thread.</p>
+         *
+         * @param world World name.
+         * @param x     Block x coordinate.
+         * @param z     Block z coordinate.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _, _ -> this")
+        @NotNull Builder atLocation(@NotNull String world, int x, int z);
+
         /**
          * Execute this task after a delay.
          *
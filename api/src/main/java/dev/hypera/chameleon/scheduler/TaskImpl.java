@@ -23,6 +23,7 @@
  */
 package dev.hypera.chameleon.scheduler;
 
+import dev.hypera.chameleon.user.User;
 import dev.hypera.chameleon.util.Preconditions;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
@@ -33,26 +34,50 @@ import org.jetbrains.annotations.VisibleForTesting;
 
 /**
  * Task implementation.
+ *
+ * <p>Execution and cancellation are coordinated by a single atomic state. A task is either
+ * {@link #SCHEDULED scheduled}, {@link #RUNNING running}, {@link #CANCELLED cancelled}, or
+ * {@link #DONE done}. Only one execution can hold the running state at a time, so executions of a
+ * repeating task that overruns its period are skipped rather than overlapping.</p>
  */
 @Internal
-final class TaskImpl implements Task {
+final class TaskImpl implements Task, ScheduledTask {
+
+    private static final int SCHEDULED = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+    private static final int DONE = 3;
 
+    private final @NotNull String name;
     private final @NotNull Runnable runnable;
     private final @NotNull Schedule delay;
     private final @NotNull Schedule repeat;
+    private final long periodNanos;
     private final boolean async;
+    private final @Nullable User user;
+    private final @Nullable String world;
+    private final int x;
+    private final int z;
 
     private final @NotNull BooleanSupplier cancelWhen;
     private final @Nullable AtomicInteger cancellationCount;
 
-    private boolean cancelled = false;
-    private @Nullable ScheduledTask scheduledTask;
+    private final @NotNull TaskRecorder recorder = new TaskRecorder();
 
-    TaskImpl(@NotNull Runnable runnable, @NotNull Schedule delay, @NotNull Schedule repeat, boolean async, @NotNull BooleanSupplier cancelWhen, int cancelAfter) {
+    private final @NotNull AtomicInteger state = new AtomicInteger(SCHEDULED);
+    private volatile @Nullable ScheduledTask scheduledTask;
+
+    TaskImpl(@NotNull String name, @NotNull Runnable runnable, @NotNull Schedule delay, @NotNull Schedule repeat, boolean async, @Nullable User user, @Nullable String world, int x, int z, @NotNull BooleanSupplier cancelWhen, int cancelAfter) {
+        this.name = name;
         this.runnable = runnable;
         this.delay = delay;
         this.repeat = repeat;
+        this.periodNanos = repeat.toDuration().toNanos();
         this.async = async;
+        this.user = user;
+        this.world = world;
+        this.x = x;
+        this.z = z;
 
         this.cancelWhen = cancelWhen;
         this.cancellationCount = cancelAfter > 0 ? new AtomicInteger(cancelAfter) : null;
@@ -63,30 +88,61 @@ final class TaskImpl implements Task {
      */
     @Override
     public void run() {
-        if (this.cancelled) {
-            if (this.scheduledTask != null) {
-                this.scheduledTask.cancel();
+        if (!this.state.compareAndSet(SCHEDULED, RUNNING)) {
+            if (this.state.get() == RUNNING) {
+                // The previous execution is still running, skip this one.
+                this.recorder.skip();
+            } else {
+                // The task has finished or been cancelled, but is still being executed.
+                ScheduledTask task = this.scheduledTask;
+                if (task != null) {
+                    task.cancel();
+                }
             }
 
             return;
         }
 
-        if (this.cancelWhen.getAsBoolean()) {
-            this.cancelled = true;
-            if (this.scheduledTask != null) {
-                this.scheduledTask.cancel();
+        try {
+            if (this.cancelWhen.getAsBoolean()) {
+                cancel();
+                return;
             }
 
-            return;
-        }
+            long start = this.recorder.start();
+            try {
+                this.runnable.run();
+            } finally {
+                this.recorder.finish(start, this.periodNanos);
+            }
 
-        this.runnable.run();
+            if (this.cancellationCount != null && this.cancellationCount.decrementAndGet() == 0) {
+                cancel();
+            }
+        } finally {
+            // Fails if the task was cancelled while running, in which case it stays cancelled.
+            this.state.compareAndSet(RUNNING, this.periodNanos > 0 ? SCHEDULED : DONE);
+        }
+    }
 
-        if (this.cancellationCount != null && this.cancellationCount.decrementAndGet() == 0) {
-            this.cancelled = true;
-            if (this.scheduledTask != null) {
-                this.scheduledTask.cancel();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        int current;
+        do {
+            current = this.state.get();
+            if (current == CANCELLED || current == DONE) {
+                return;
             }
+        } while (!this.state.compareAndSet(current, CANCELLED));
+
+        // If the task has not been handed its scheduled task yet, it will be cancelled as soon as
+        // it is.
+        ScheduledTask task = this.scheduledTask;
+        if (task != null) {
+            task.cancel();
         }
     }
 
@@ -98,6 +154,23 @@ final class TaskImpl implements Task {
         return this.async;
     }
 
+    @NotNull String getName() {
+        return this.name;
+    }
+
+    @NotNull TaskRecorder getRecorder() {
+        return this.recorder;
+    }
+
+    /**
+     * Take a snapshot of this task's execution metrics.
+     *
+     * @return metrics snapshot.
+     */
+    @NotNull TaskMetrics getMetrics() {
+        return this.recorder.snapshot(this.name, this.async);
+    }
+
     @NotNull Schedule getDelay() {
         return this.delay;
     }
@@ -106,6 +179,22 @@ final class TaskImpl implements Task {
         return this.repeat;
     }
 
+    @Nullable User getUser() {
+        return this.user;
+    }
+
+    @Nullable String getWorld() {
+        return this.world;
+    }
+
+    int getX() {
+        return this.x;
+    }
+
+    int getZ() {
+        return this.z;
+    }
+
     /**
      * Get whether this task was cancelled.
      *
@@ -114,26 +203,56 @@ final class TaskImpl implements Task {
     @Internal
     @VisibleForTesting
     public boolean isCancelled() {
-        return this.cancelled;
+        return this.state.get() == CANCELLED;
+    }
+
+    /**
+     * Get whether this task has finished or been cancelled.
+     *
+     * @return {@code true} if this task will not be executed again, otherwise {@code false}.
+     */
+    boolean isFinished() {
+        int current = this.state.get();
+        return current == CANCELLED || current == DONE;
     }
 
     @Internal
     void setScheduledTask(@NotNull ScheduledTask task) {
         this.scheduledTask = task;
+        if (this.state.get() == CANCELLED) {
+            // Cancelled before the scheduled task was set, possibly by an early execution.
+            task.cancel();
+        }
     }
 
     static final class BuilderImpl implements Builder {
 
         private final @NotNull Runnable runnable;
+        private @NotNull String name;
         private @NotNull Schedule delay = Schedule.none();
         private @NotNull Schedule repeat = Schedule.none();
         private boolean async = true;
+        private @Nullable User user;
+        private @Nullable String world;
+        private int x;
+        private int z;
 
         private @NotNull BooleanSupplier cancelWhen = () -> false;
         private int cancelAfter = -1;
 
         BuilderImpl(@NotNull Runnable runnable) {
-            this.runnable = runnable;
+            this.runnable = Preconditions.checkNotNull("runnable", runnable);
+            this.name = runnable.getClass().getName();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder name(@NotNull String name) {
+            Preconditions.checkNotNull("name", name);
+            this.name = name;
+            return this;
         }
 
         /**
@@ -151,6 +270,34 @@ final class TaskImpl implements Task {
         @Override
         public @NotNull Builder async() {
             this.async = true;
+            this.user = null;
+            this.world = null;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder forUser(@NotNull User user) {
+            Preconditions.checkNotNull("user", user);
+            this.async = false;
+            this.user = user;
+            this.world = null;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder atLocation(@NotNull String world, int x, int z) {
+            Preconditions.checkNotNull("world", world);
+            this.async = false;
+            this.user = null;
+            this.world = world;
+            this.x = x;
+            this.z = z;
             return this;
         }
 
@@ -199,8 +346,9 @@ final class TaskImpl implements Task {
         @Override
         public @NotNull Task build() {
             return new TaskImpl(
-                this.runnable, this.delay, this.repeat,
-                this.async, this.cancelWhen, this.cancelAfter
+                this.name, this.runnable, this.delay, this.repeat,
+                this.async, this.user, this.world, this.x, this.z,
+                this.cancelWhen, this.cancelAfter
             );
         }
 
@@ -0,0 +1,154 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import dev.hypera.chameleon.util.internal.LatencyHistogram;
+import java.time.Duration;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Snapshot of a scheduled task's execution metrics.
+ */
+public final class TaskMetrics {
+
+    private final @NotNull String name;
+    private final boolean async;
+    private final boolean running;
+    private final long runCount;
+    private final @NotNull Duration lastExecutionTime;
+    private final @NotNull Duration maxExecutionTime;
+    private final @NotNull LatencyHistogram histogram;
+    private final long overrunCount;
+    private final long overlapCount;
+
+    @Internal
+    TaskMetrics(@NotNull String name, boolean async, boolean running, long runCount, @NotNull Duration lastExecutionTime, @NotNull Duration maxExecutionTime, @NotNull LatencyHistogram histogram, long overrunCount, long overlapCount) {
+        this.name = name;
+        this.async = async;
+        this.running = running;
+        this.runCount = runCount;
+        this.lastExecutionTime = lastExecutionTime;
+        this.maxExecutionTime = maxExecutionTime;
+        this.histogram = histogram;
+        this.overrunCount = overrunCount;
+        this.overlapCount = overlapCount;
+    }
+
+    /**
+     * Get the name of the task.
+     *
+     * @return task name.
+     */
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get whether the task is executed asynchronously.
+     *
+     * @return {@code true} if the task is asynchronous, otherwise {@code false}.
+     */
+    public boolean isAsync() {
+        return this.async;
+    }
+
+    /**
+     * Get whether the task was executing when this snapshot was taken.
+     *
+     * @return {@code true} if the task was executing, otherwise {@code false}.
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Get the number of completed executions.
+     *
+     * @return run count.
+     */
+    public long getRunCount() {
+        return this.runCount;
+    }
+
+    /**
+     * Get the duration of the last completed execution.
+     *
+     * @return last execution time, or {@link Duration#ZERO} if the task has not been executed.
+     */
+    public @NotNull Duration getLastExecutionTime() {
+        return this.lastExecutionTime;
+    }
+
+    /**
+     * Get the duration of the longest completed execution.
+     *
+     * @return maximum execution time, or {@link Duration#ZERO} if the task has not been executed.
+     */
+    public @NotNull Duration getMaxExecutionTime() {
+        return this.maxExecutionTime;
+    }
+
+    /**
+     * Get the duration of a single execution at the given percentile.
+     *
+     * @param percentile Percentile, between {@code 0} and {@code 100}.
+     *
+     * @return execution time at percentile.
+     */
+    public @NotNull Duration getPercentile(double percentile) {
+        return Duration.ofNanos(Math.min(this.maxExecutionTime.toNanos(), this.histogram.valueAtPercentile(percentile)));
+    }
+
+    /**
+     * Get the number of executions of a repeating task that took longer than its period.
+     *
+     * @return overrun count.
+     */
+    public long getOverrunCount() {
+        return this.overrunCount;
+    }
+
+    /**
+     * Get the number of executions that were skipped because the previous execution was still
+     * running.
+     *
+     * @return overlap count.
+     */
+    public long getOverlapCount() {
+        return this.overlapCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String toString() {
+        return "TaskMetrics{name='" + this.name + "', async=" + this.async + ", running=" + this.running
+            + ", runCount=" + this.runCount + ", lastExecutionTime=" + this.lastExecutionTime
+            + ", maxExecutionTime=" + this.maxExecutionTime + ", p99=" + getPercentile(99)
+            + ", overrunCount=" + this.overrunCount + ", overlapCount=" + this.overlapCount + '}';
+    }
+
+}
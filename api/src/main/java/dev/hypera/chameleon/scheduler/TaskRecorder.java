@@ -0,0 +1,142 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import dev.hypera.chameleon.util.internal.LatencyHistogram;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Records the execution metrics of a single task.
+ */
+@Internal
+final class TaskRecorder {
+
+    private final @NotNull LongAdder runs = new LongAdder();
+    private final @NotNull LongAdder overruns = new LongAdder();
+    private final @NotNull LongAdder overlaps = new LongAdder();
+    private final @NotNull AtomicLong maxNanos = new AtomicLong();
+    private final @NotNull LatencyHistogram histogram = new LatencyHistogram();
+    private final @NotNull AtomicInteger running = new AtomicInteger();
+    private volatile long lastNanos;
+
+    // Most recent execution, inspected by the watchdog.
+    private volatile @Nullable Thread runningThread;
+    private volatile long runningSince;
+    private volatile boolean reported;
+
+    /**
+     * Record the start of an execution.
+     *
+     * @return start time, to be passed to {@link #finish(long, long)}.
+     */
+    long start() {
+        this.running.incrementAndGet();
+        long now = System.nanoTime();
+        this.reported = false;
+        this.runningSince = now;
+        this.runningThread = Thread.currentThread();
+        return now;
+    }
+
+    /**
+     * Record an execution that was skipped because the previous execution was still running.
+     */
+    void skip() {
+        this.overlaps.increment();
+    }
+
+    /**
+     * Record the end of an execution.
+     *
+     * @param start       Start time, returned by {@link #start()}.
+     * @param periodNanos Period of the task, or {@code 0} if the task does not repeat.
+     */
+    void finish(long start, long periodNanos) {
+        long elapsed = System.nanoTime() - start;
+        if (this.running.decrementAndGet() == 0) {
+            this.runningThread = null;
+        }
+
+        this.runs.increment();
+        this.lastNanos = elapsed;
+        this.maxNanos.accumulateAndGet(elapsed, Math::max);
+        this.histogram.record(elapsed);
+        if (periodNanos > 0 && elapsed > periodNanos) {
+            this.overruns.increment();
+        }
+    }
+
+    /**
+     * Returns the thread executing this task if the current execution has exceeded the given
+     * budget and has not already been reported.
+     *
+     * @param now         Current time.
+     * @param budgetNanos Execution time budget.
+     *
+     * @return thread to report, or {@code null}.
+     */
+    @Nullable Thread checkBudget(long now, long budgetNanos) {
+        Thread thread = this.runningThread;
+        if (thread == null || this.reported || now - this.runningSince <= budgetNanos) {
+            return null;
+        }
+
+        this.reported = true;
+        return thread;
+    }
+
+    /**
+     * Returns how long the current execution has been running.
+     *
+     * @param now Current time.
+     *
+     * @return running time.
+     */
+    @NotNull Duration runningFor(long now) {
+        return Duration.ofNanos(now - this.runningSince);
+    }
+
+    /**
+     * Take a snapshot of the recorded metrics.
+     *
+     * @param name  Task name.
+     * @param async Whether the task is asynchronous.
+     *
+     * @return metrics snapshot.
+     */
+    @NotNull TaskMetrics snapshot(@NotNull String name, boolean async) {
+        return new TaskMetrics(
+            name, async, this.running.get() > 0, this.runs.sum(),
+            Duration.ofNanos(this.lastNanos), Duration.ofNanos(this.maxNanos.get()), this.histogram.copy(),
+            this.overruns.sum(), this.overlaps.sum()
+        );
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.util.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared executors used internally by Chameleon.
+ */
+@Internal
+public final class ChameleonExecutors {
+
+    private ChameleonExecutors() {
+        throw new UnsupportedOperationException("ChameleonExecutors is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Returns the shared asynchronous executor.
+     *
+     * <p>On runtimes that support virtual threads (Java 21+), each task is executed on a new
+     * virtual thread. Otherwise, tasks are executed by a bounded pool of daemon threads.</p>
+     *
+     * @return asynchronous executor.
+     */
+    public static @NotNull ExecutorService async() {
+        return AsyncHolder.EXECUTOR;
+    }
+
+    /**
+     * Returns whether the current runtime supports virtual threads.
+     *
+     * @return {@code true} if virtual threads are available, otherwise {@code false}.
+     */
+    public static boolean virtualThreadsAvailable() {
+        return AsyncHolder.VIRTUAL_THREADS;
+    }
+
+    /**
+     * Creates a new bounded pool of daemon threads.
+     *
+     * @param name    Thread name prefix.
+     * @param threads Maximum number of threads.
+     *
+     * @return new executor.
+     */
+    public static @NotNull ExecutorService newBoundedPool(@NotNull String name, int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), newThreadFactory(name)
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates a new thread factory that creates daemon threads.
+     *
+     * @param name Thread name prefix.
+     *
+     * @return new thread factory.
+     */
+    public static @NotNull ThreadFactory newThreadFactory(@NotNull String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + '-' + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static @Nullable ExecutorService newVirtualThreadExecutor() {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findStatic(
+                Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class)
+            );
+            return (ExecutorService) handle.invoke();
+        } catch (Throwable ex) {
+            // Virtual threads are not available on this runtime.
+            return null;
+        }
+    }
+
+    private static final class AsyncHolder {
+
+        private static final @Nullable ExecutorService VIRTUAL_EXECUTOR = newVirtualThreadExecutor();
+        private static final boolean VIRTUAL_THREADS = VIRTUAL_EXECUTOR != null;
+        private static final @NotNull ExecutorService EXECUTOR = VIRTUAL_EXECUTOR != null ? VIRTUAL_EXECUTOR
+            : newBoundedPool("chameleon-async", Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    }
+
+}
@@ -61,6 +61,23 @@ public interface ChameleonProperty<T> {
      */
     @NotNull ChameleonProperty<Boolean> PREVENT_CHAT_PROTOCOL_ERRORS = of("preventChatProtocolErrors", Boolean::parseBoolean, true);
 
+    /**
+     * Specifies whether event bus metrics should be recorded.
+     *
+     * <p>When enabled, the time taken by each event subscriber is recorded and made available
+     * through {@link dev.hypera.chameleon.event.EventBus#metrics()}. This can be toggled at
+     * runtime.</p>
+     */
+    @NotNull ChameleonProperty<Boolean> EVENT_METRICS = of("eventMetrics", Boolean::parseBoolean, false);
+
+    /**
+     * Specifies the maximum number of entries in each Adventure mapping cache.
+     *
+     * <p>Mapped Components, Styles and Keys are cached so that immutable objects that are sent
+     * repeatedly only have to be mapped once. Setting this to {@code 0} disables caching.</p>
+     */
+    @NotNull ChameleonProperty<Integer> ADVENTURE_CACHE_SIZE = of("adventureCacheSize", Integer::parseInt, 512);
+
     /**
      * Returns a new property.
      *
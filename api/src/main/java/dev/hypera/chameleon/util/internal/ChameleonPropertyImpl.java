@@ -40,7 +40,7 @@ final class ChameleonPropertyImpl<T> implements ChameleonProperty<T> {
     private final @NotNull Function<String, T> parser;
     private final @NotNull T defaultValue;
     private final @NotNull AtomicBoolean retrieved = new AtomicBoolean(false);
-    private @NotNull T value;
+    private volatile @NotNull T value;
 
     ChameleonPropertyImpl(@NotNull String name, @NotNull Function<String, T> parser, @NotNull T defaultValue) {
         this.name = name;
@@ -62,7 +62,7 @@ final class ChameleonPropertyImpl<T> implements ChameleonProperty<T> {
      */
     @Override
     public @NotNull T get() {
-        if (this.retrieved.compareAndSet(false, true)) {
+        if (!this.retrieved.get() && this.retrieved.compareAndSet(false, true)) {
             this.value = retrieveValue();
         }
         return this.value;
@@ -0,0 +1,155 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.util.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A concurrent, fixed-size log-linear histogram for recording latencies.
+ *
+ * <p>Values are recorded into buckets that each cover one eighth of a power of two, meaning that
+ * values reported by this histogram are accurate to within 12.5%, regardless of magnitude.
+ * Recording a value is wait-free and never allocates.</p>
+ */
+@Internal
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final @NotNull AtomicLongArray counts;
+
+    /**
+     * Latency histogram constructor.
+     */
+    public LatencyHistogram() {
+        this(new AtomicLongArray(BUCKETS));
+    }
+
+    private LatencyHistogram(@NotNull AtomicLongArray counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value Value to record, negative values are recorded as {@code 0}.
+     */
+    public void record(long value) {
+        this.counts.incrementAndGet(indexOf(Math.max(0, value)));
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return recorded value count.
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += this.counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the value at the given percentile.
+     *
+     * <p>The returned value is the highest value that is equivalent to the recorded value at the
+     * given percentile.</p>
+     *
+     * @param percentile Percentile, between {@code 0} and {@code 100}.
+     *
+     * @return value at percentile, or {@code 0} if no values have been recorded.
+     */
+    public long valueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = this.counts.get(i);
+            count += snapshot[i];
+        }
+
+        if (count < 1) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(Math.min(100D, Math.max(0D, percentile)) / 100D * count));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= target) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return highestEquivalentValue(BUCKETS - 1);
+    }
+
+    /**
+     * Returns a copy of this histogram.
+     *
+     * @return copy of this histogram.
+     */
+    public @NotNull LatencyHistogram copy() {
+        AtomicLongArray copy = new AtomicLongArray(BUCKETS);
+        for (int i = 0; i < BUCKETS; i++) {
+            copy.set(i, this.counts.get(i));
+        }
+        return new LatencyHistogram(copy);
+    }
+
+    /**
+     * Resets this histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts.set(i, 0);
+        }
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowest + width - 1;
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.util.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Internal reflection utilities.
+ */
+@Internal
+public final class ReflectionUtil {
+
+    private static final @NotNull MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private ReflectionUtil() {
+        throw new UnsupportedOperationException("ReflectionUtil is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Find a public method and adapt it to a handle that accepts and returns {@link Object}s.
+     *
+     * <p>Primitive, {@link String} and {@link List} parameter and return types are kept as-is,
+     * every other type is erased to {@link Object}. This allows the returned handle to be invoked
+     * with {@link MethodHandle#invokeExact(Object...)} without referencing the method's declared
+     * types, for example when they belong to a platform's copy of Adventure.</p>
+     *
+     * @param type       Class declaring the method.
+     * @param name       Method name.
+     * @param parameters Method parameter types.
+     *
+     * @return adapted method handle.
+     * @throws ReflectiveOperationException if the method could not be found or accessed.
+     */
+    public static @NotNull MethodHandle findHandle(@NotNull Class<?> type, @NotNull String name, @NotNull Class<?> @NotNull ... parameters) throws ReflectiveOperationException {
+        MethodHandle handle = LOOKUP.unreflect(type.getMethod(name, parameters));
+        MethodType genericType = handle.type().generic();
+        for (int i = 0; i < handle.type().parameterCount(); i++) {
+            Class<?> parameter = handle.type().parameterType(i);
+            if (isKept(parameter)) {
+                genericType = genericType.changeParameterType(i, parameter);
+            }
+        }
+
+        Class<?> returnType = handle.type().returnType();
+        if (isKept(returnType)) {
+            genericType = genericType.changeReturnType(returnType);
+        }
+        return handle.asType(genericType);
+    }
+
+    private static boolean isKept(@NotNull Class<?> type) {
+        return type.isPrimitive() || type == String.class || type == List.class;
+    }
+
+}
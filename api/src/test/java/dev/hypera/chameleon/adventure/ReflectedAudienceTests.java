@@ -25,6 +25,7 @@ package dev.hypera.chameleon.adventure;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -346,9 +347,34 @@ final class ReflectedAudienceTests {
         assertEquals("hi", value);
     }
 
+    @Test
+    void getSnapshotPointer() {
+        doReturn(Optional.of("chameleon")).when(this.audience).get(Identity.NAME);
+
+        // Snapshot pointers should only be requested from the platform audience once.
+        assertEquals("chameleon", this.reflectedAudience.get(Identity.NAME).orElse(null));
+        assertEquals("chameleon", this.reflectedAudience.get(Identity.NAME).orElse(null));
+        verify(this.audience, times(1)).get(Identity.NAME);
+
+        // Invalidating the snapshot should cause it to be taken again.
+        doReturn(Optional.of("hypera")).when(this.audience).get(Identity.NAME);
+        ((ReflectedAudience) this.reflectedAudience).invalidatePointers();
+        assertEquals("hypera", this.reflectedAudience.get(Identity.NAME).orElse(null));
+        verify(this.audience, times(2)).get(Identity.NAME);
+    }
+
     @Test
     void pointers() {
-        assertEquals(Pointers.empty(), this.reflectedAudience.pointers());
+        UUID uuid = UUID.randomUUID();
+        doReturn(Optional.of(uuid)).when(this.audience).get(Identity.UUID);
+        doReturn(Optional.of("chameleon")).when(this.audience).get(Identity.NAME);
+
+        // Only snapshot pointers should be included.
+        Pointers pointers = this.reflectedAudience.pointers();
+        assertEquals(uuid, pointers.get(Identity.UUID).orElse(null));
+        assertEquals("chameleon", pointers.get(Identity.NAME).orElse(null));
+        assertFalse(pointers.get(Identity.LOCALE).isPresent());
+        assertFalse(pointers.supports(Pointer.pointer(String.class, Key.key("chameleon:test"))));
     }
 
 }
@@ -0,0 +1,108 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import dev.hypera.chameleon.TestChameleon;
+import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
+import java.util.List;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ReflectedForwardingAudienceTests {
+
+    private static AdventureMapper adventureMapper;
+    private Audience first = mock(Audience.class);
+    private Audience second = mock(Audience.class);
+    private Audience other = mock(Audience.class);
+    private Audience forwardingAudience;
+
+    @BeforeAll
+    static void loadAdventureMapper() {
+        adventureMapper = new AdventureMapper(new TestChameleon());
+        assertDoesNotThrow(adventureMapper::load);
+    }
+
+    @BeforeEach
+    void setup() {
+        this.first = mock(Audience.class);
+        this.second = mock(Audience.class);
+        this.other = mock(Audience.class);
+
+        // One reflected audience, one reflected audience behind a forwarding audience, and one
+        // audience that is not reflected
+        Audience reflectedFirst = adventureMapper.createReflectedAudience(this.first);
+        Audience reflectedSecond = adventureMapper.createReflectedAudience(this.second);
+        List<Audience> audiences = List.of(reflectedFirst, (ForwardingAudience.Single) () -> reflectedSecond, this.other);
+        this.forwardingAudience = adventureMapper.createReflectedForwardingAudience(() -> audiences);
+    }
+
+    @Test
+    void sendMessage() {
+        // Create message
+        Component message = Component.text("test");
+
+        // Make and verify call
+        this.forwardingAudience.sendMessage(message);
+        verify(this.first, times(1)).sendMessage(message);
+        verify(this.second, times(1)).sendMessage(message);
+        verify(this.other, times(1)).sendMessage(message);
+    }
+
+    @Test
+    void showBossBar() {
+        // Create boss bar
+        BossBar bar = BossBar.bossBar(Component.text("test"), 1f, BossBar.Color.BLUE, BossBar.Overlay.PROGRESS);
+
+        // Make and verify call, every reflected member should be shown the same platform boss bar
+        Object mapped = assertDoesNotThrow(() -> adventureMapper.getBossBarMapper().map(bar));
+        this.forwardingAudience.showBossBar(bar);
+        verify(this.first, times(1)).showBossBar((BossBar) mapped);
+        verify(this.second, times(1)).showBossBar((BossBar) mapped);
+        verify(this.other, times(1)).showBossBar(bar);
+    }
+
+    @Test
+    void filterAudience() {
+        // Create message
+        Component message = Component.text("test");
+
+        // Only the first member should receive the message
+        this.forwardingAudience.filterAudience(a -> a instanceof ReflectedAudience).sendMessage(message);
+        verify(this.first, times(1)).sendMessage(message);
+        verify(this.second, never()).sendMessage(message);
+        verify(this.other, never()).sendMessage(message);
+    }
+
+}
@@ -24,11 +24,18 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.hypera.chameleon.TestChameleon;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +72,56 @@ final class AdventureMapperTests {
         assertNotNull(mapper.getTitlePartMapper());
     }
 
+    @Test
+    void resolveOnFirstUse() {
+        // Load a new mapper, no mappers should have been resolved yet.
+        AdventureMapper lazyMapper = new AdventureMapper(new TestChameleon());
+        assertDoesNotThrow(lazyMapper::load);
+        assertFalse(lazyMapper.getResolvedMappers().containsValue(true));
+
+        // Map a component, only the component mapper should be resolved.
+        assertDoesNotThrow(() -> lazyMapper.getComponentMapper().map(Component.text("test")));
+        assertTrue(lazyMapper.getComponentMapper().isLoaded());
+        assertTrue(lazyMapper.getResolvedMappers().get("component"));
+        assertFalse(lazyMapper.getBookMapper().isLoaded());
+        assertFalse(lazyMapper.getSoundMapper().isLoaded());
+
+        // An explicitly loaded mapper cannot be loaded again.
+        assertThrows(IllegalStateException.class, lazyMapper.getComponentMapper()::load);
+    }
+
+    @Test
+    void cachesResolveFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        ClassNotFoundException failure = new ClassNotFoundException();
+        LazyMapper<String> mapper = new LazyMapper<String>() {
+            @Override
+            protected void resolve() throws ReflectiveOperationException {
+                attempts.incrementAndGet();
+                throw failure;
+            }
+
+            @Override
+            public @NotNull Object map(@NotNull String s) throws ReflectiveOperationException {
+                ensureLoaded();
+                return s;
+            }
+
+            @Override
+            public @NotNull String mapBackwards(@NotNull Object o) throws ReflectiveOperationException {
+                ensureLoaded();
+                return (String) o;
+            }
+        };
+
+        // A failed resolve should be reported again, from the current caller, without being
+        // attempted again
+        assertSame(failure, assertThrows(ClassNotFoundException.class, () -> mapper.map("test")));
+        ReflectiveOperationException later = assertThrows(ReflectiveOperationException.class, () -> mapper.mapBackwards("test"));
+        assertNotSame(failure, later);
+        assertSame(failure, later.getCause());
+        assertEquals(1, attempts.get());
+        assertFalse(mapper.isLoaded());
+    }
+
 }
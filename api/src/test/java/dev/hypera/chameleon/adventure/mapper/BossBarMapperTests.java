@@ -24,12 +24,15 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.hypera.chameleon.adventure.matches.BossBarMatcher;
 import java.util.Collections;
+import java.util.Set;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.bossbar.BossBar.Flag;
 import net.kyori.adventure.text.Component;
@@ -86,6 +89,33 @@ final class BossBarMapperTests {
         new BossBarMatcher(bossBar).matches((BossBar) mapped);
     }
 
+    @Test
+    void mapMirrorsChanges() {
+        // Create a boss bar
+        BossBar bossBar = BossBar.bossBar(
+            Component.text("chameleon"), 1f,
+            BossBar.Color.GREEN, BossBar.Overlay.PROGRESS,
+            Collections.singleton(Flag.PLAY_BOSS_MUSIC)
+        );
+
+        // Map the boss bar, the same platform boss bar should be returned each time
+        BossBar mapped = (BossBar) assertDoesNotThrow(() -> bossBarMapper.map(bossBar));
+        assertSame(mapped, assertDoesNotThrow(() -> bossBarMapper.map(bossBar)));
+
+        // Changes should be forwarded to the platform boss bar
+        bossBar.name(Component.text("countdown"));
+        bossBar.progress(0.5f);
+        bossBar.color(BossBar.Color.RED);
+        bossBar.overlay(BossBar.Overlay.NOTCHED_10);
+        bossBar.addFlag(Flag.DARKEN_SCREEN);
+        bossBar.removeFlag(Flag.PLAY_BOSS_MUSIC);
+        assertEquals(Component.text("countdown"), mapped.name());
+        assertEquals(0.5f, mapped.progress());
+        assertEquals(BossBar.Color.RED, mapped.color());
+        assertEquals(BossBar.Overlay.NOTCHED_10, mapped.overlay());
+        assertEquals(Set.of(Flag.DARKEN_SCREEN), mapped.flags());
+    }
+
     @Test
     void mapBackwards() {
         // Create a boss bar
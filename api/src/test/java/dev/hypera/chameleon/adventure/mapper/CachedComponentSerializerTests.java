@@ -0,0 +1,69 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+final class CachedComponentSerializerTests {
+
+    @Test
+    void serialize() {
+        CachedComponentSerializer serializer = new CachedComponentSerializer(GsonComponentSerializer.gson());
+        Component component = Component.text("chameleon", NamedTextColor.GREEN);
+
+        // The first call should serialize, the following calls should be served from the cache
+        String serialized = serializer.serialize(component);
+        assertEquals(GsonComponentSerializer.gson().serialize(component), serialized);
+        assertSame(serialized, serializer.serialize(component));
+        assertSame(serialized, serializer.serialize(Component.text("chameleon", NamedTextColor.GREEN)));
+        assertEquals(1, serializer.getSerializeCache().getMisses());
+        assertEquals(2, serializer.getSerializeCache().getHits());
+    }
+
+    @Test
+    void deserialize() {
+        CachedComponentSerializer serializer = new CachedComponentSerializer(GsonComponentSerializer.gson());
+        String input = "{\"text\":\"chameleon\",\"color\":\"green\"}";
+
+        Component deserialized = serializer.deserialize(input);
+        assertEquals(Component.text("chameleon", NamedTextColor.GREEN), deserialized);
+        assertSame(deserialized, serializer.deserialize(new String(input)));
+        assertEquals(1, serializer.getDeserializeCache().getMisses());
+    }
+
+    @Test
+    void shared() {
+        assertSame(
+            CachedComponentSerializer.shared(GsonComponentSerializer.gson()),
+            CachedComponentSerializer.shared(GsonComponentSerializer.gson())
+        );
+    }
+
+}
@@ -29,7 +29,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -84,4 +91,42 @@ final class ComponentMapperTests {
         assertEquals(component, mapped);
     }
 
+    @Test
+    void mapTree() {
+        Component component = createTree();
+
+        // Map the component, which should be structurally identical
+        Object mapped = assertDoesNotThrow(() -> componentMapper.map(component));
+        assertEquals(component, mapped);
+
+        // Map the component backwards
+        Component mappedBackwards = assertDoesNotThrow(() -> componentMapper.mapBackwards(mapped));
+        assertEquals(component, mappedBackwards);
+    }
+
+    private static Component createTree() {
+        return Component.text()
+            .content("chameleon")
+            .color(NamedTextColor.GREEN)
+            .decorate(TextDecoration.BOLD)
+            .decoration(TextDecoration.ITALIC, false)
+            .clickEvent(ClickEvent.runCommand("/chameleon"))
+            .hoverEvent(HoverEvent.showText(Component.text("hover", TextColor.color(0x123456))))
+            .insertion("insertion")
+            .font(Key.key("chameleon", "font"))
+            .append(Component.translatable("chameleon.key", "fallback", Component.text("argument")))
+            .append(Component.keybind("key.jump"))
+            .append(Component.score("@p", "objective"))
+            .append(Component.selector("@a", Component.text(", ")))
+            .append(Component.entityNBT().nbtPath("path").selector("@s").interpret(true).build())
+            .append(Component.storageNBT("path", Key.key("chameleon", "storage")))
+            .append(Component.blockNBT("path", BlockNBTComponent.WorldPos.worldPos(
+                BlockNBTComponent.WorldPos.Coordinate.absolute(1),
+                BlockNBTComponent.WorldPos.Coordinate.relative(2),
+                BlockNBTComponent.WorldPos.Coordinate.absolute(3)
+            )))
+            .append(Component.text("item").hoverEvent(HoverEvent.showItem(Key.key("stone"), 1)))
+            .build();
+    }
+
 }
@@ -75,4 +75,36 @@ final class EnumMapperTests {
         assertEquals(GameMode.SURVIVAL, mapped);
     }
 
+    @Test
+    void mapDifferentEnums() {
+        // Create and load an enum mapper between two enums with different constants
+        EnumMapper<Shaded> mapper = new EnumMapper<>(Shaded.class, Platform.class);
+        assertDoesNotThrow(mapper::load);
+
+        // Constants should be matched by name
+        assertEquals(Platform.FIRST, assertDoesNotThrow(() -> mapper.map(Shaded.FIRST)));
+        assertEquals(Platform.SECOND, assertDoesNotThrow(() -> mapper.map(Shaded.SECOND)));
+        assertEquals(Shaded.FIRST, assertDoesNotThrow(() -> mapper.mapBackwards(Platform.FIRST)));
+        assertEquals(Shaded.SECOND, assertDoesNotThrow(() -> mapper.mapBackwards(Platform.SECOND)));
+
+        // Constants missing from either enum, and non-platform objects, should not be mapped
+        assertThrows(IllegalArgumentException.class, () -> mapper.map(Shaded.SHADED_ONLY));
+        assertThrows(IllegalArgumentException.class, () -> mapper.mapBackwards(Platform.PLATFORM_ONLY));
+        assertThrows(IllegalArgumentException.class, () -> mapper.mapBackwards(Shaded.FIRST));
+    }
+
+    @Test
+    void loadNonEnum() {
+        EnumMapper<GameMode> mapper = new EnumMapper<>(GameMode.class, Object.class);
+        assertThrows(IllegalArgumentException.class, mapper::load);
+    }
+
+    private enum Shaded {
+        FIRST, SHADED_ONLY, SECOND
+    }
+
+    private enum Platform {
+        PLATFORM_ONLY, SECOND, FIRST
+    }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.util.internal.ChameleonProperty;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class MappingCacheTests {
+
+    @AfterEach
+    void reset() {
+        ChameleonProperty.ADVENTURE_CACHE_SIZE.reset();
+    }
+
+    @Test
+    void identityAndEquality() {
+        MappingCache<String> cache = new MappingCache<>();
+        AtomicInteger mappings = new AtomicInteger();
+        MappingCache.Mapping<String, RuntimeException> mapping = key -> {
+            mappings.incrementAndGet();
+            return new Object();
+        };
+
+        // The first lookup should map the key
+        String key = new String("chameleon");
+        Object mapped = cache.get(key, mapping);
+        assertEquals(1, mappings.get());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // Looking up the same instance should return the cached object
+        assertSame(mapped, cache.get(key, mapping));
+
+        // Looking up an equal instance should also return the cached object
+        assertSame(mapped, cache.get(new String("chameleon"), mapping));
+        assertEquals(1, mappings.get());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.size());
+
+        // Clearing the cache should require the key to be mapped again
+        cache.clear();
+        assertNotSame(mapped, cache.get(key, mapping));
+        assertEquals(2, mappings.get());
+    }
+
+    @Test
+    void bounded() {
+        ChameleonProperty.ADVENTURE_CACHE_SIZE.set(8);
+        MappingCache<Integer> cache = new MappingCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, key -> new Object());
+        }
+        assertTrue(cache.size() <= 8);
+    }
+
+    @Test
+    void disabled() {
+        ChameleonProperty.ADVENTURE_CACHE_SIZE.set(0);
+        MappingCache<String> cache = new MappingCache<>();
+        String key = "chameleon";
+        assertNotSame(cache.get(key, k -> new Object()), cache.get(key, k -> new Object()));
+        assertEquals(0, cache.size());
+    }
+
+}
@@ -25,12 +25,27 @@ package dev.hypera.chameleon.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.hypera.chameleon.event.EventBus.ExceptionHandler;
+import dev.hypera.chameleon.event.EventBusMetrics.SubscriberMetrics;
+import dev.hypera.chameleon.event.annotations.Subscribe;
 import dev.hypera.chameleon.exception.ChameleonException;
 import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import dev.hypera.chameleon.scheduler.objects.TestScheduler;
+import dev.hypera.chameleon.util.internal.ChameleonProperty;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -131,6 +146,39 @@ final class EventBusTests {
         assertEquals(3, cancelledEvent.getTouches());
     }
 
+    @Test
+    void cancelledDuringDispatch() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        List<String> received = new ArrayList<>();
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .priority(EventSubscriptionPriority.HIGH)
+                .handler(e -> {
+                    received.add("high");
+                    e.cancel();
+                })
+                .build()
+        );
+        eventBus.subscribe(TestEvent.class, e -> received.add("normal"));
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .priority(EventSubscriptionPriority.LOW)
+                .acceptCancelled()
+                .handler(e -> received.add("low"))
+                .build()
+        );
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .priority(EventSubscriptionPriority.VERY_LOW)
+                .handler(e -> received.add("very low"))
+                .build()
+        );
+
+        // Once cancelled, only subscribers that accept cancelled events should be called
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(Arrays.asList("high", "low"), received);
+    }
+
     @Test
     void receivesChildren() {
         EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
@@ -145,6 +193,29 @@ final class EventBusTests {
         assertEquals(1, event.getTouches());
     }
 
+    @Test
+    void receivesAllSupertypes() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        List<String> received = new ArrayList<>();
+        eventBus.subscribe(TestChildEvent.class, e -> received.add("child"));
+        eventBus.subscribe(ChameleonEvent.class, e -> received.add("event"));
+        eventBus.subscribe(TestParentEvent.class, e -> received.add("parent"));
+        eventBus.subscribe(
+            EventSubscriber.builder(ChameleonEvent.class)
+                .priority(EventSubscriptionPriority.FIRST)
+                .handler(e -> received.add("first"))
+                .build()
+        );
+
+        // Every matching supertype should be merged, ordered by priority then registration order
+        eventBus.dispatch(new TestChildEvent());
+        assertEquals(Arrays.asList("first", "child", "event", "parent"), received);
+
+        received.clear();
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(Arrays.asList("first", "event"), received);
+    }
+
     @Test
     void expiresAfter() {
         EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
@@ -211,6 +282,295 @@ final class EventBusTests {
         assertEquals(3, event.getTouches());
     }
 
+    @Test
+    void filtersSkipSubscriber() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        List<Runnable> submitted = new ArrayList<>();
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .filters(e -> e.getTouches() > 0)
+                .expireAfter(1)
+                .executor(submitted::add)
+                .handler(TestEvent::touch)
+                .build()
+        );
+
+        // Filtered events should neither be submitted to the executor nor count towards expiry
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertTrue(submitted.isEmpty());
+        assertTrue(eventBus.subscribed(TestEvent.class));
+
+        event.touch();
+        eventBus.dispatch(event);
+        assertEquals(1, submitted.size());
+        submitted.get(0).run();
+        assertEquals(2, event.getTouches());
+        assertFalse(eventBus.subscribed(TestEvent.class));
+    }
+
+    @Test
+    void filtersApplyWhenCalledDirectly() throws Throwable {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        EventSubscriber<TestEvent> subscriber = EventSubscriber.builder(TestEvent.class)
+            .filters(e -> e.getTouches() > 0)
+            .handler(TestEvent::touch)
+            .build();
+        eventBus.subscribe(subscriber);
+
+        // Events rejected by the filters should be ignored when the subscriber is called directly
+        TestEvent event = new TestEvent(false);
+        subscriber.on(event);
+        subscriber.onBatch(Collections.singletonList(event));
+        assertEquals(0, event.getTouches());
+
+        event.touch();
+        subscriber.on(event);
+        assertEquals(2, event.getTouches());
+    }
+
+    @Test
+    void coalesce() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        TestScheduler scheduler = new TestScheduler();
+        TestEvent first = new TestEvent(false);
+        TestEvent second = new TestEvent(false);
+        TestEvent other = new TestEvent(false);
+
+        List<TestEvent> received = new ArrayList<>();
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .coalesce(scheduler, Duration.ofSeconds(1), e -> e == other ? "other" : "same")
+                .handler(received::add)
+                .build()
+        );
+
+        // Events with the same key should be collapsed into a single scheduled delivery
+        eventBus.dispatch(first);
+        eventBus.dispatch(second);
+        eventBus.dispatch(other);
+        assertTrue(received.isEmpty());
+        assertEquals(2, scheduler.getTaskCount());
+
+        // Only the latest event for each key should be handled
+        scheduler.execute();
+        assertEquals(2, received.size());
+        assertTrue(received.containsAll(Arrays.asList(second, other)));
+    }
+
+    @Test
+    void coalesceDeliversThroughBus() {
+        List<Throwable> failures = new ArrayList<>();
+        EventBus eventBus = new EventBusImpl((bus, subscriber, event, throwable) -> failures.add(throwable));
+        TestScheduler scheduler = new TestScheduler();
+        List<Runnable> submitted = new ArrayList<>();
+        IllegalStateException failure = new IllegalStateException();
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .coalesce(scheduler, Duration.ofSeconds(1), e -> "same")
+                .executor(submitted::add)
+                .handler(e -> {
+                    throw failure;
+                })
+                .build()
+        );
+
+        // Collecting the event runs on the executor
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(1, submitted.size());
+        submitted.get(0).run();
+
+        // The latest event should be handed to the executor once the window has elapsed
+        scheduler.execute();
+        assertEquals(2, submitted.size());
+        assertTrue(failures.isEmpty());
+
+        // Exceptions thrown by the handler should reach the bus's exception handler
+        submitted.get(1).run();
+        assertEquals(Collections.singletonList(failure), failures);
+    }
+
+    @Test
+    void subscribeDuringDispatch() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        eventBus.subscribe(TestEvent.class, e -> {
+            e.touch();
+            eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        });
+
+        // Subscribers registered during a dispatch should only receive subsequent events
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(1, event.getTouches());
+
+        TestEvent secondEvent = new TestEvent(false);
+        eventBus.dispatch(secondEvent);
+        assertEquals(2, secondEvent.getTouches());
+    }
+
+    @Test
+    void dispatchAsync() throws Exception {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .priority(EventSubscriptionPriority.HIGH)
+                .handler(e -> {
+                    assertEquals(0, e.getTouches());
+                    e.touch();
+                })
+                .build()
+        );
+        eventBus.subscribe(TestEvent.class, e -> {
+            assertEquals(1, e.getTouches());
+            e.touch();
+        });
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .async()
+                .handler(e -> threads.add(Thread.currentThread()))
+                .build()
+        );
+
+        // The future should only complete once every subscriber has been called
+        TestEvent event = eventBus.dispatchAsync(new TestEvent(false)).get(5, TimeUnit.SECONDS);
+        assertEquals(2, event.getTouches());
+        assertEquals(1, threads.size());
+        assertNotSame(caller, threads.get(0));
+    }
+
+    @Test
+    void asyncSubscriber() throws Exception {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            eventBus.subscribe(
+                EventSubscriber.builder(TestEvent.class)
+                    .executor(executor)
+                    .handler(e -> latch.countDown())
+                    .build()
+            );
+
+            eventBus.dispatch(new TestEvent(false));
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void registerListener() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        TestListener listener = new TestListener();
+        EventSubscription subscription = eventBus.registerListener(listener);
+        assertTrue(eventBus.subscribed(TestEvent.class));
+        assertTrue(eventBus.subscribed(TestChildEvent.class));
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(2, event.getTouches());
+
+        eventBus.dispatch(new TestChildEvent());
+        assertEquals(1, listener.children);
+
+        // Listener methods should only be discovered once per class
+        assertSame(ListenerMethod.of(TestListener.class), ListenerMethod.of(TestListener.class));
+
+        subscription.unsubscribe();
+        assertFalse(eventBus.subscribed(TestEvent.class));
+        assertFalse(eventBus.subscribed(TestChildEvent.class));
+    }
+
+    @Test
+    void registerInvalidListener() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        assertThrows(IllegalArgumentException.class, () -> eventBus.registerListener(new Object() {
+            @Subscribe
+            public void on(String value) {
+
+            }
+        }));
+    }
+
+    @Test
+    void dispatchAll() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        List<List<TestEvent>> batches = new ArrayList<>();
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .priority(EventSubscriptionPriority.HIGH)
+                .handler(e -> {
+                    e.touch();
+                    if (e.getTouches() > 1) {
+                        e.cancel();
+                    }
+                })
+                .build()
+        );
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .batchHandler(batches::add)
+                .build()
+        );
+
+        TestEvent first = new TestEvent(false);
+        TestEvent second = new TestEvent(false);
+        TestEvent third = new TestEvent(false);
+        second.touch();
+
+        // Batch subscribers should receive every non-cancelled event of a type at once
+        eventBus.dispatchAll(Arrays.asList(first, new TestChildEvent(), second, third));
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList(first, third), batches.get(0));
+        assertTrue(second.isCancelled());
+
+        // Individually dispatched events should be given to the batch handler as a singleton list
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(1).size());
+    }
+
+    @Test
+    void metrics() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        EventSubscriber<TestEvent> subscriber = EventSubscriber.builder(TestEvent.class)
+            .handler(e -> {
+                if (e.isCancelled()) {
+                    throw new ChameleonException("Hello, world!");
+                }
+            })
+            .acceptCancelled()
+            .build();
+        eventBus.subscribe(subscriber);
+
+        // Metrics should not be recorded while disabled
+        eventBus.dispatch(new TestEvent(false));
+        assertTrue(eventBus.metrics().getSubscribers().isEmpty());
+
+        ChameleonProperty.EVENT_METRICS.set(true);
+        try {
+            eventBus.dispatch(new TestEvent(false));
+            eventBus.dispatch(new TestEvent(false));
+            eventBus.dispatch(new TestEvent(true));
+        } finally {
+            ChameleonProperty.EVENT_METRICS.reset();
+        }
+
+        List<SubscriberMetrics> metrics = eventBus.metrics().getSubscribers();
+        assertEquals(1, metrics.size());
+        assertSame(subscriber, metrics.get(0).getSubscriber());
+        assertEquals(TestEvent.class, metrics.get(0).getEventType());
+        assertEquals(3, metrics.get(0).getInvocations());
+        assertEquals(1, metrics.get(0).getExceptions());
+        assertTrue(metrics.get(0).getPercentile(100).compareTo(metrics.get(0).getMaxTime()) <= 0);
+
+        // Metrics should be removed when the subscriber is unsubscribed
+        eventBus.unsubscribeIf(subscriber::equals);
+        assertTrue(eventBus.metrics().getSubscribers().isEmpty());
+    }
+
     @Test
     void testExceptionHandler() {
         EventBusImpl eventBus = new EventBusImpl(new DummyChameleonLogger());
@@ -250,6 +610,37 @@ final class EventBusTests {
 
     }
 
+    interface TestParentEvent extends ChameleonEvent {
+
+    }
+
+    static final class TestChildEvent implements TestParentEvent {
+
+    }
+
+    static final class TestListener {
+
+        private int children = 0;
+
+        @Subscribe(priority = EventSubscriptionPriority.HIGH)
+        public void onTest(TestEvent event) {
+            assertEquals(0, event.getTouches());
+            event.touch();
+        }
+
+        @Subscribe
+        private void onTestLater(TestEvent event) {
+            assertEquals(1, event.getTouches());
+            event.touch();
+        }
+
+        @Subscribe
+        void onChild(TestChildEvent event) {
+            this.children++;
+        }
+
+    }
+
     static final class TestExceptionHandler implements ExceptionHandler {
 
         private int errorCount = 0;
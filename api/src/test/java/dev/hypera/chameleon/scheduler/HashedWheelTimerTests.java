@@ -0,0 +1,241 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class HashedWheelTimerTests {
+
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Executor DIRECT = Runnable::run;
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setup() {
+        this.timer = new HashedWheelTimer(DIRECT, ex -> {}, TICK, 64);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.timer.close();
+    }
+
+    @Test
+    void executesAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        this.timer.schedule(latch::countDown, TimeUnit.MILLISECONDS.toNanos(25), 0);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(25));
+        awaitPending(0);
+    }
+
+    @Test
+    void executesBeyondOneRevolution() throws InterruptedException {
+        // The wheel covers 64ms, so this deadline wraps around it.
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        this.timer.schedule(latch::countDown, TimeUnit.MILLISECONDS.toNanos(150), 0);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void repeats() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        ScheduledTask task = this.timer.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, this.timer.pending());
+
+        task.cancel();
+        assertEquals(0, this.timer.pending());
+    }
+
+    @Test
+    void cancels() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        ScheduledTask task = this.timer.schedule(executions::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(20), 0);
+        task.cancel();
+        // Cancelling twice is a no-op.
+        task.cancel();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        this.timer.schedule(latch::countDown, TimeUnit.MILLISECONDS.toNanos(40), 0);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, executions.get());
+        awaitPending(0);
+    }
+
+    @Test
+    void continuesAfterFailure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        AtomicInteger failures = new AtomicInteger();
+        HashedWheelTimer timer = new HashedWheelTimer(DIRECT, ex -> failures.incrementAndGet(), TICK, 64);
+
+        try {
+            timer.schedule(() -> {
+                latch.countDown();
+                throw new IllegalStateException("expected");
+            }, 0, TimeUnit.MILLISECONDS.toNanos(2));
+
+            // A failing execution is reported, and must not stop the task from repeating.
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(failures.get() >= 2);
+        } finally {
+            timer.close();
+        }
+    }
+
+    @Test
+    void parksUntilEarliestDeadline() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        this.timer.schedule(() -> {}, TimeUnit.MINUTES.toNanos(5), 0);
+        this.timer.schedule(latch::countDown, TimeUnit.MILLISECONDS.toNanos(30), 0);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // Only the distant timeout is pending, so the worker sleeps rather than ticking.
+        long iterations = this.timer.iterations();
+        Thread.sleep(100);
+        assertTrue(this.timer.iterations() - iterations <= 1);
+        assertEquals(1, this.timer.pending());
+    }
+
+    @Test
+    void laterTimeoutsDoNotWakeWorker() throws InterruptedException {
+        this.timer.schedule(() -> {}, TimeUnit.MINUTES.toNanos(5), 0);
+        Thread.sleep(20);
+
+        // Timeouts due after the one the worker is parked for, and cancellations, leave it asleep.
+        long iterations = this.timer.iterations();
+        for (int i = 0; i < 1000; i++) {
+            this.timer.schedule(() -> {}, TimeUnit.MINUTES.toNanos(10), 0).cancel();
+        }
+        Thread.sleep(50);
+        assertTrue(this.timer.iterations() - iterations <= 1);
+        assertEquals(1, this.timer.pending());
+
+        // An earlier timeout wakes the worker.
+        CountDownLatch latch = new CountDownLatch(1);
+        this.timer.schedule(latch::countDown, TimeUnit.MILLISECONDS.toNanos(10), 0);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void handlesManyTasks() throws InterruptedException {
+        int count = 50_000;
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            this.timer.schedule(latch::countDown, TimeUnit.MILLISECONDS.toNanos(i % 200), 0);
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        awaitPending(0);
+    }
+
+    @Test
+    void closeCancelsPending() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        this.timer.schedule(executions::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(50), 0);
+        this.timer.close();
+
+        Thread.sleep(100);
+        assertEquals(0, executions.get());
+        assertEquals(0, this.timer.pending());
+        assertThrows(IllegalStateException.class, () -> this.timer.schedule(() -> {}, 0, 0));
+    }
+
+    @Test
+    void closeAccountsForRunningTimeouts() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HashedWheelTimer timer = new HashedWheelTimer(command -> new Thread(command).start(), ex -> {}, TICK, 64);
+        ScheduledTask task = timer.schedule(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }, 0, 0);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // The running timeout is still pending after closing, and is only accounted for once.
+        timer.close();
+        assertEquals(1, timer.pending());
+        task.cancel();
+        release.countDown();
+        Thread.sleep(50);
+        assertEquals(0, timer.pending());
+    }
+
+    @Test
+    void schedulerRunsAsyncTasks() throws InterruptedException {
+        Scheduler scheduler = new Scheduler() {
+            @Override
+            protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        try {
+            // Schedule a repeating task that cancels itself on its third execution.
+            AtomicInteger executions = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(3);
+            scheduler.schedule(Task.builder(() -> {
+                executions.incrementAndGet();
+                latch.countDown();
+            }).async().repeat(Schedule.millis(5)).cancelAfter(3).build());
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            assertEquals(3, executions.get());
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    private void awaitPending(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (this.timer.pending() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, this.timer.pending());
+    }
+
+}
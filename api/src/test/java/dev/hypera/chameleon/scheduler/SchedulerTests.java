@@ -24,11 +24,28 @@
 package dev.hypera.chameleon.scheduler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
+import dev.hypera.chameleon.logger.ChameleonLogger;
 import dev.hypera.chameleon.scheduler.objects.TestScheduler;
+import dev.hypera.chameleon.user.User;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 final class SchedulerTests {
@@ -96,4 +113,297 @@ final class SchedulerTests {
         assertEquals(0, scheduler.getTaskCount());
     }
 
+    @Test
+    void supplyAsyncThenSync() throws Exception {
+        TestScheduler scheduler = new TestScheduler();
+        try {
+            // Supply a value off the main thread, then hop back to accept it.
+            AtomicReference<String> result = new AtomicReference<>();
+            CompletableFuture<Void> future = scheduler.supplyAsync(() -> "value")
+                .thenAcceptAsync(result::set, scheduler.syncExecutor());
+
+            // The synchronous step runs once the test scheduler is ticked.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (scheduler.getTaskCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertFalse(future.isDone());
+            scheduler.execute();
+
+            future.get(5, TimeUnit.SECONDS);
+            assertEquals("value", result.get());
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void runSync() throws Exception {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger executions = new AtomicInteger(0);
+
+        CompletableFuture<Void> future = scheduler.runSync(executions::getAndIncrement);
+        assertEquals(1, scheduler.getTaskCount());
+        assertFalse(future.isDone());
+
+        scheduler.execute();
+        assertTrue(future.isDone());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void rejectsAfterClose() {
+        TestScheduler scheduler = new TestScheduler();
+        scheduler.close();
+
+        assertThrows(RejectedExecutionException.class, () -> scheduler.runAsync(() -> {}));
+    }
+
+    @Test
+    void routesTargetedTasks() {
+        AtomicReference<String> target = new AtomicReference<>();
+        TestScheduler scheduler = new TestScheduler() {
+            @Override
+            protected @NotNull ScheduledTask scheduleLocationTask(@NotNull Runnable task, @NotNull String world, int x, int z, @NotNull Schedule delay, @NotNull Schedule repeat) {
+                target.set(world + ':' + x + ':' + z);
+                return super.scheduleLocationTask(task, world, x, z, delay, repeat);
+            }
+        };
+
+        // Location tasks are routed to the location hook.
+        Task task = Task.builder(() -> {}).atLocation("world", 16, -32).build();
+        assertFalse(task.isAsync());
+        scheduler.schedule(task);
+        assertEquals("world:16:-32", target.get());
+
+        // Without per-region threading, targeted tasks fall back to the main thread.
+        assertEquals(1, scheduler.getTaskCount());
+
+        // Switching back to asynchronous execution clears the target.
+        target.set(null);
+        scheduler.schedule(Task.builder(() -> {}).atLocation("world", 0, 0).async().build());
+        assertNull(target.get());
+    }
+
+    @Test
+    void untracksRetiredTasks() {
+        AtomicReference<Runnable> retired = new AtomicReference<>();
+        TestScheduler scheduler = new TestScheduler() {
+            @Override
+            protected @NotNull ScheduledTask scheduleUserTask(@NotNull Runnable task, @NotNull Runnable retiredCallback, @NotNull User user, @NotNull Schedule delay, @NotNull Schedule repeat) {
+                retired.set(retiredCallback);
+                return super.scheduleUserTask(task, retiredCallback, user, delay, repeat);
+            }
+        };
+
+        Task task = Task.builder(() -> {}).forUser(mock(User.class)).repeat(Schedule.seconds(1)).build();
+        scheduler.schedule(task);
+        assertEquals(1, scheduler.getTaskMetrics().size());
+
+        // Retiring the user cancels the task and stops tracking it.
+        retired.get().run();
+        assertTrue(((TaskImpl) task).isCancelled());
+        assertEquals(0, scheduler.getTaskCount());
+        assertTrue(scheduler.getTaskMetrics().isEmpty());
+    }
+
+    @Test
+    void untracksTasksOnClose() {
+        Scheduler scheduler = new Scheduler() {
+            @Override
+            protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+                return () -> {};
+            }
+        };
+
+        scheduler.schedule(Task.builder(() -> {}).sync().repeat(Schedule.seconds(1)).build());
+        assertEquals(1, scheduler.getTaskMetrics().size());
+        scheduler.close();
+        assertTrue(scheduler.getTaskMetrics().isEmpty());
+
+        // Tasks that fail to be scheduled are not tracked.
+        assertThrows(IllegalStateException.class, () -> scheduler.schedule(Task.async(() -> {})));
+        assertTrue(scheduler.getTaskMetrics().isEmpty());
+    }
+
+    @Test
+    void recordsMetrics() {
+        TestScheduler scheduler = new TestScheduler();
+        ScheduledTask scheduledTask = scheduler.schedule(
+            Task.builder(() -> sleep(3)).name("metrics").sync()
+                .repeat(Schedule.millis(1)).build()
+        );
+
+        scheduler.execute();
+        scheduler.execute();
+
+        // Both executions took longer than the period.
+        List<TaskMetrics> metrics = scheduler.getTaskMetrics();
+        assertEquals(1, metrics.size());
+        TaskMetrics taskMetrics = metrics.get(0);
+        assertEquals("metrics", taskMetrics.getName());
+        assertFalse(taskMetrics.isAsync());
+        assertFalse(taskMetrics.isRunning());
+        assertEquals(2, taskMetrics.getRunCount());
+        assertEquals(2, taskMetrics.getOverrunCount());
+        assertEquals(0, taskMetrics.getOverlapCount());
+        assertTrue(taskMetrics.getLastExecutionTime().toMillis() >= 3);
+        assertTrue(taskMetrics.getMaxExecutionTime().compareTo(taskMetrics.getLastExecutionTime()) >= 0);
+        assertTrue(taskMetrics.getPercentile(50).toMillis() >= 3);
+        assertTrue(taskMetrics.getPercentile(100).compareTo(taskMetrics.getMaxExecutionTime()) <= 0);
+
+        // Cancelled tasks are no longer tracked.
+        scheduledTask.cancel();
+        assertTrue(scheduler.getTaskMetrics().isEmpty());
+    }
+
+    @Test
+    void skipsOverlap() {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicReference<Task> task = new AtomicReference<>();
+        AtomicInteger executions = new AtomicInteger(0);
+
+        // Re-enter the task from within its first execution, which should be skipped.
+        task.set(Task.builder(() -> {
+            if (executions.getAndIncrement() == 0) {
+                task.get().run();
+            }
+        }).sync().repeat(Schedule.seconds(1)).build());
+        scheduler.schedule(task.get());
+        scheduler.execute();
+
+        TaskMetrics metrics = scheduler.getTaskMetrics().get(0);
+        assertEquals(1, executions.get());
+        assertEquals(1, metrics.getRunCount());
+        assertEquals(1, metrics.getOverlapCount());
+    }
+
+    @Test
+    void watchdogReportsSlowTasks() {
+        TestScheduler scheduler = new TestScheduler();
+        ChameleonLogger logger = mock(ChameleonLogger.class);
+        try {
+            scheduler.enableWatchdog(Duration.ofMillis(20), logger);
+            scheduler.schedule(Task.builder(() -> sleep(200)).name("slow").sync().build());
+            scheduler.execute();
+
+            // The slow execution is reported once, with the stack of the executing thread.
+            verify(logger, timeout(1000).times(1)).warn(contains("'slow'"), any(Throwable.class));
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void concurrentExecutionsAreExclusive() throws InterruptedException {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger executions = new AtomicInteger(0);
+        AtomicInteger concurrent = new AtomicInteger(0);
+        AtomicInteger maxConcurrent = new AtomicInteger(0);
+
+        Task task = Task.builder(() -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            executions.incrementAndGet();
+            concurrent.decrementAndGet();
+        }).repeat(Schedule.millis(1)).cancelAfter(1000).build();
+        scheduler.schedule(task);
+
+        // Hammer the task from several threads, as an overrunning platform scheduler would.
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 10_000; i++) {
+                task.run();
+            }
+        });
+
+        // Exactly the requested number of executions ran, one at a time, and the task was
+        // removed from the platform scheduler.
+        assertEquals(1000, executions.get());
+        assertEquals(1, maxConcurrent.get());
+        assertTrue(((TaskImpl) task).isCancelled());
+        assertEquals(0, scheduler.getTaskCount());
+        assertTrue(scheduler.getTaskMetrics().isEmpty());
+    }
+
+    @Test
+    void cancellationStopsExecutions() throws InterruptedException {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger executions = new AtomicInteger(0);
+        Task task = Task.builder(executions::incrementAndGet).repeat(Schedule.millis(1)).build();
+        ScheduledTask scheduledTask = scheduler.schedule(task);
+
+        // Cancel from one thread while others execute the task.
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 10_000; i++) {
+                if (i == 5_000) {
+                    scheduledTask.cancel();
+                }
+                task.run();
+            }
+        });
+
+        int count = executions.get();
+        assertTrue(((TaskImpl) task).isCancelled());
+        assertEquals(0, scheduler.getTaskCount());
+
+        task.run();
+        assertEquals(count, executions.get());
+    }
+
+    @Test
+    void cancelledTimerTasksStop() throws InterruptedException {
+        Scheduler scheduler = new Scheduler() {
+            @Override
+            protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        try {
+            // Cancel a repeating timer task from within its own execution.
+            AtomicInteger executions = new AtomicInteger(0);
+            CountDownLatch latch = new CountDownLatch(1);
+            scheduler.schedule(Task.builder(() -> {
+                if (executions.incrementAndGet() == 10) {
+                    latch.countDown();
+                }
+            }).async().repeat(Schedule.millis(1)).cancelWhen(() -> executions.get() >= 10).build());
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            assertEquals(10, executions.get());
+            assertTrue(scheduler.getTaskMetrics().isEmpty());
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    private static void runConcurrently(int threads, @NotNull Runnable runnable) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                runnable.run();
+            });
+            workers[i].start();
+        }
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
 }
@@ -26,13 +26,13 @@ package dev.hypera.chameleon.scheduler.objects;
 import dev.hypera.chameleon.scheduler.Schedule;
 import dev.hypera.chameleon.scheduler.ScheduledTask;
 import dev.hypera.chameleon.scheduler.Scheduler;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.NotNull;
 
 public class TestScheduler extends Scheduler {
 
-    private final @NotNull Set<Runnable> tasks = new HashSet<>();
+    private final @NotNull Set<Runnable> tasks = ConcurrentHashMap.newKeySet();
 
     @Override
     protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
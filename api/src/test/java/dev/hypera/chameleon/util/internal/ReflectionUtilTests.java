@@ -0,0 +1,59 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.util.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class ReflectionUtilTests {
+
+    @Test
+    void findHandle() throws Throwable {
+        MethodHandle concat = ReflectionUtil.findHandle(String.class, "concat", String.class);
+        assertEquals(MethodType.methodType(String.class, String.class, String.class), concat.type());
+        assertEquals("ab", (String) concat.invokeExact("a", "b"));
+
+        MethodHandle add = ReflectionUtil.findHandle(Collection.class, "add", Object.class);
+        assertEquals(MethodType.methodType(boolean.class, Object.class, Object.class), add.type());
+        List<Object> list = new ArrayList<>();
+        assertEquals(true, (boolean) add.invokeExact((Object) list, (Object) "test"));
+        assertEquals(List.of("test"), list);
+
+        MethodHandle subList = ReflectionUtil.findHandle(List.class, "subList", int.class, int.class);
+        assertEquals(MethodType.methodType(List.class, List.class, int.class, int.class), subList.type());
+    }
+
+    @Test
+    void findHandleMissing() {
+        assertThrows(NoSuchMethodException.class, () -> ReflectionUtil.findHandle(String.class, "missing"));
+    }
+
+}
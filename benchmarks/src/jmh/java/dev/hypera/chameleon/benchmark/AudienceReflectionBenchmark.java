@@ -0,0 +1,179 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmark;
+
+import dev.hypera.chameleon.adventure.AudienceReflection;
+import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
+import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
+import dev.hypera.chameleon.util.Preconditions;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.pointer.Pointer;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Audience reflection benchmarks, comparing the method handle based invocation used by
+ * {@link AudienceReflection} against the {@link Method#invoke(Object, Object...)} based
+ * implementation it replaced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AudienceReflectionBenchmark {
+
+    private AudienceReflection audienceReflection;
+    private BaselineAudienceReflection baselineAudienceReflection;
+    private Component component;
+    private Audience audience;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        AdventureMapper adventureMapper = BenchmarkChameleon.createAdventureMapper();
+        this.audienceReflection = new AudienceReflection(adventureMapper);
+        this.audienceReflection.load();
+        this.baselineAudienceReflection = new BaselineAudienceReflection(adventureMapper);
+        this.baselineAudienceReflection.load();
+        this.component = Component.text("benchmark");
+        this.audience = new CountingAudience();
+    }
+
+    @Benchmark
+    public void sendMessage() {
+        this.audienceReflection.sendMessage(this.audience, this.component);
+    }
+
+    @Benchmark
+    public void sendMessageBaseline() {
+        this.baselineAudienceReflection.sendMessage(this.audience, this.component);
+    }
+
+    @Benchmark
+    public Optional<String> getPointer() {
+        return this.audienceReflection.getPointer(this.audience, Identity.NAME);
+    }
+
+    @Benchmark
+    public Optional<String> getPointerBaseline() {
+        return this.baselineAudienceReflection.getPointer(this.audience, Identity.NAME);
+    }
+
+    /**
+     * The {@code sendMessage(Component)} and {@code get(Pointer)} paths of
+     * {@link AudienceReflection} before it moved to method handles, kept as the baseline.
+     */
+    private static final class BaselineAudienceReflection {
+
+        private final @NotNull AdventureMapper adventure;
+        private final @NotNull AtomicBoolean loaded = new AtomicBoolean(false);
+        private @Nullable Method audienceSendMessageMethod;
+        private @Nullable Method pointeredGetMethod;
+
+        private BaselineAudienceReflection(@NotNull AdventureMapper adventure) {
+            this.adventure = adventure;
+        }
+
+        private void load() throws ReflectiveOperationException {
+            Preconditions.checkState(!isLoaded(), "AudienceReflection has already been loaded");
+            Class<?> audienceClass = Class.forName(AdventureMapper.ORIGINAL_AUDIENCE_CLASS_NAME);
+            Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+            this.audienceSendMessageMethod = audienceClass.getMethod("sendMessage", componentClass);
+            this.pointeredGetMethod = Class.forName(AdventureMapper.ORIGINAL_POINTERED_CLASS_NAME)
+                .getMethod("get", Class.forName(AdventureMapper.ORIGINAL_POINTER_CLASS_NAME));
+            this.loaded.set(true);
+        }
+
+        private boolean isLoaded() {
+            return this.loaded.get();
+        }
+
+        private void sendMessage(@NotNull Object audience, @NotNull Component component) {
+            Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
+
+            try {
+                Objects.requireNonNull(this.audienceSendMessageMethod).invoke(audience,
+                    this.adventure.getComponentMapper().map(component)
+                );
+            } catch (ReflectiveOperationException ex) {
+                throw ChameleonReflectiveException.createMethodInvocationFailure(
+                    Objects.requireNonNull(this.audienceSendMessageMethod), audience, ex
+                );
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> @NotNull Optional<T> getPointer(@NotNull Object pointered, @NotNull Pointer<T> pointer) {
+            Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
+
+            try {
+                return (Optional<T>) ((Optional<?>) Objects.requireNonNull(this.pointeredGetMethod).invoke(pointered,
+                    this.adventure.getPointerMapper().map(pointer)
+                )).map(value -> {
+                    try {
+                        if (value.getClass().getCanonicalName().startsWith(AdventureMapper.ORIGINAL_PACKAGE)) {
+                            if (Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME).isInstance(value)) {
+                                // Pointer value is a component, map it backwards.
+                                return this.adventure.getComponentMapper().mapBackwards(value);
+                            }
+
+                            if (Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME).isInstance(value)) {
+                                // Pointer value is a key, map it backwards.
+                                return this.adventure.getKeyMapper().mapBackwards(value);
+                            }
+                        }
+
+                        return value;
+                    } catch (ReflectiveOperationException ex) {
+                        throw new ChameleonReflectiveException(ex);
+                    }
+                });
+            } catch (ReflectiveOperationException ex) {
+                throw ChameleonReflectiveException.createMethodInvocationFailure(
+                    Objects.requireNonNull(this.pointeredGetMethod), pointered, ex
+                );
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmark;
+
+import dev.hypera.chameleon.adventure.mapper.BossBarMapper;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boss bar mapper benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BossBarMapperBenchmark {
+
+    private BossBarMapper mapper;
+    private Component name;
+    private BossBar bossBar;
+    private Object platformBossBar;
+    private int step;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        this.mapper = BenchmarkChameleon.createAdventureMapper().getBossBarMapper();
+        this.name = Components.tree(2, 4);
+        this.bossBar = BossBar.bossBar(this.name, 0.5f, BossBar.Color.PINK, BossBar.Overlay.PROGRESS);
+        this.platformBossBar = this.mapper.map(this.bossBar);
+    }
+
+    @Benchmark
+    public Object mapNew() throws ReflectiveOperationException {
+        return this.mapper.map(BossBar.bossBar(this.name, 0.5f, BossBar.Color.PINK, BossBar.Overlay.PROGRESS));
+    }
+
+    @Benchmark
+    public Object mapMirrored() throws ReflectiveOperationException {
+        return this.mapper.map(this.bossBar);
+    }
+
+    @Benchmark
+    public BossBar mapBackwards() throws ReflectiveOperationException {
+        return this.mapper.mapBackwards(this.platformBossBar);
+    }
+
+    @Benchmark
+    public BossBar updateProgress() {
+        // Changes to a mapped boss bar are forwarded to its platform mirror.
+        this.step = this.step == 100 ? 0 : this.step + 1;
+        return this.bossBar.progress(this.step / 100.0f);
+    }
+
+}
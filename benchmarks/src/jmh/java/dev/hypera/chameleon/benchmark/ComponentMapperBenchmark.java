@@ -0,0 +1,90 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmark;
+
+import dev.hypera.chameleon.adventure.mapper.ComponentMapper;
+import dev.hypera.chameleon.util.internal.ChameleonProperty;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Component mapper benchmarks, mapping component trees of increasing depth and width.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComponentMapperBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    @Param({"1", "4", "16"})
+    public int width;
+
+    @Param({"0", "512"})
+    public int cacheSize;
+
+    private ComponentMapper mapper;
+    private Component component;
+    private Object platformComponent;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        ChameleonProperty.ADVENTURE_CACHE_SIZE.set(this.cacheSize);
+        this.mapper = BenchmarkChameleon.createAdventureMapper().getComponentMapper();
+        this.component = Components.tree(this.depth, this.width);
+        this.platformComponent = this.mapper.map(this.component);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ChameleonProperty.ADVENTURE_CACHE_SIZE.reset();
+    }
+
+    @Benchmark
+    public Object map() throws ReflectiveOperationException {
+        return this.mapper.map(this.component);
+    }
+
+    @Benchmark
+    public Component mapBackwards() throws ReflectiveOperationException {
+        return this.mapper.mapBackwards(this.platformComponent);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Component fixtures used by benchmarks.
+ */
+public final class Components {
+
+    private static final @NotNull NamedTextColor[] COLORS = {
+        NamedTextColor.RED, NamedTextColor.GOLD, NamedTextColor.GREEN,
+        NamedTextColor.AQUA, NamedTextColor.BLUE, NamedTextColor.LIGHT_PURPLE
+    };
+
+    private Components() {
+        throw new UnsupportedOperationException("Components is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Create a styled component tree.
+     *
+     * <p>Each level of the tree has {@code width} children, the last of which continues to the
+     * next level, so the tree contains {@code depth * width} components in total.</p>
+     *
+     * @param depth Number of levels.
+     * @param width Number of children on each level.
+     *
+     * @return new component tree.
+     */
+    public static @NotNull Component tree(int depth, int width) {
+        return level(0, depth, width);
+    }
+
+    private static @NotNull Component level(int level, int depth, int width) {
+        List<Component> children = new ArrayList<>(width);
+        for (int i = 0; i < width - 1; i++) {
+            children.add(Component.text("child " + level + "." + i, NamedTextColor.GRAY)
+                .decorate(TextDecoration.ITALIC)
+                .hoverEvent(HoverEvent.showText(Component.text("hover " + i))));
+        }
+        if (level + 1 < depth) {
+            children.add(level(level + 1, depth, width));
+        }
+
+        return Component.text()
+            .content("level " + level)
+            .color(COLORS[level % COLORS.length])
+            .clickEvent(ClickEvent.runCommand("/level " + level))
+            .append(children)
+            .build();
+    }
+
+}
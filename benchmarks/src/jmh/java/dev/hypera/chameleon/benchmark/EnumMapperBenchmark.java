@@ -0,0 +1,81 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmark;
+
+import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
+import dev.hypera.chameleon.adventure.mapper.EnumMapper;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.bossbar.BossBar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Enum mapper benchmarks, cycling through every boss bar color.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnumMapperBenchmark {
+
+    private EnumMapper<BossBar.Color> mapper;
+    private BossBar.Color[] colors;
+    private Object[] platformColors;
+    private int index;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Class<?> platformClass = Class.forName(AdventureMapper.ORIGINAL_BOSSBAR_CLASS_NAME.concat("$Color"));
+        this.mapper = EnumMapper.createAndLoad(BossBar.Color.class, platformClass);
+        this.colors = BossBar.Color.values();
+        this.platformColors = platformClass.getEnumConstants();
+    }
+
+    @Benchmark
+    public Object map() throws ReflectiveOperationException {
+        return this.mapper.map(this.colors[next()]);
+    }
+
+    @Benchmark
+    public BossBar.Color mapBackwards() throws ReflectiveOperationException {
+        return this.mapper.mapBackwards(this.platformColors[next()]);
+    }
+
+    private int next() {
+        int i = this.index;
+        this.index = i + 1 == this.colors.length ? 0 : i + 1;
+        return i;
+    }
+
+}
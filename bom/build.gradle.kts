@@ -35,7 +35,8 @@ indra {
 dependencies {
     constraints {
         for (subproject in rootProject.subprojects) {
-            if (subproject != project && !subproject.name.contains("example")) {
+            if (subproject != project && !subproject.name.contains("example") &&
+                !subproject.name.contains("benchmarks")) {
                 api(project(subproject.path))
             }
         }
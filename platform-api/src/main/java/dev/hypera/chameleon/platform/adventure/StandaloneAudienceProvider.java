@@ -24,6 +24,7 @@
 package dev.hypera.chameleon.platform.adventure;
 
 import dev.hypera.chameleon.adventure.ChameleonAudienceProvider;
+import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
 import dev.hypera.chameleon.user.ChatUser;
 import dev.hypera.chameleon.user.ProxyUser;
 import dev.hypera.chameleon.user.UserManager;
@@ -37,16 +38,23 @@ import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Standalone Chameleon audience provider.
  *
  * <p>This audience provider implementation does not require any platform Adventure implementation,
  * and instead uses Chameleon's {@link UserManager}.</p>
+ *
+ * <p>If an {@link AdventureMapper} is provided, broadcasts to users backed by reflected audiences
+ * are mapped once and sent through the platform's own Adventure implementation.</p>
  */
 public final class StandaloneAudienceProvider implements ChameleonAudienceProvider, ForwardingAudience {
 
     private final @NotNull UserManager userManager;
+    private final @Nullable AdventureMapper adventureMapper;
+    private volatile @Nullable Audience reflectedAll;
+    private volatile @Nullable Audience reflectedPlayers;
 
     /**
      * Standalone Chameleon audience provider constructor.
@@ -54,7 +62,18 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      * @param userManager User manager.
      */
     public StandaloneAudienceProvider(@NotNull UserManager userManager) {
+        this(userManager, null);
+    }
+
+    /**
+     * Standalone Chameleon audience provider constructor.
+     *
+     * @param userManager     User manager.
+     * @param adventureMapper Adventure mapper used to create reflected forwarding audiences.
+     */
+    public StandaloneAudienceProvider(@NotNull UserManager userManager, @Nullable AdventureMapper adventureMapper) {
         this.userManager = userManager;
+        this.adventureMapper = adventureMapper;
     }
 
     /**
@@ -78,7 +97,15 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      */
     @Override
     public @NotNull Audience all() {
-        return this;
+        Audience audience = this.reflectedAll;
+        if (audience == null) {
+            if (this.adventureMapper == null || !this.adventureMapper.isLoaded()) {
+                return this;
+            }
+            audience = this.adventureMapper.createReflectedForwardingAudience(this::audiences);
+            this.reflectedAll = audience;
+        }
+        return audience;
     }
 
     /**
@@ -99,7 +126,15 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      */
     @Override
     public @NotNull Audience players() {
-        return Audience.audience(this.userManager.getUsers());
+        Audience audience = this.reflectedPlayers;
+        if (audience == null) {
+            if (this.adventureMapper == null || !this.adventureMapper.isLoaded()) {
+                return Audience.audience(this.userManager.getUsers());
+            }
+            audience = this.adventureMapper.createReflectedForwardingAudience(this.userManager::getUsers);
+            this.reflectedPlayers = audience;
+        }
+        return audience;
     }
 
     /**
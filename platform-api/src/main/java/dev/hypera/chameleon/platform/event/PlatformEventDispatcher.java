@@ -25,15 +25,29 @@ package dev.hypera.chameleon.platform.event;
 
 import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.EventSubscription;
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Platform event dispatcher forwards platform events to the Chameleon event bus.
+ *
+ * <p>Platform listeners should be registered as bridges using
+ * {@link #registerBridge(Set, Function)}, which lets the platform listener skip all work while
+ * the Chameleon events it produces have no subscribers.</p>
  */
 public abstract class PlatformEventDispatcher {
 
     private final @NotNull EventBus eventBus;
+    private final @NotNull List<Bridge> bridges = new CopyOnWriteArrayList<>();
+    private @Nullable EventSubscription subscriptionListener;
 
     protected PlatformEventDispatcher(@NotNull EventBus eventBus) {
         this.eventBus = eventBus;
@@ -48,7 +62,46 @@ public abstract class PlatformEventDispatcher {
      * Unregister platform listeners.
      */
     public void unregisterListeners() {
+        synchronized (this) {
+            if (this.subscriptionListener != null) {
+                this.subscriptionListener.unsubscribe();
+                this.subscriptionListener = null;
+            }
+        }
+
+        for (Bridge bridge : this.bridges) {
+            bridge.unregister();
+        }
+        this.bridges.clear();
+    }
+
+    /**
+     * Registers a bridge between a platform listener and the Chameleon event bus.
+     *
+     * <p>The platform listener is registered immediately, on the calling thread, and stays
+     * registered until {@link #unregisterListeners()} is called. The listener is given a flag that
+     * reports whether any of the given event types currently have subscribers, and should return
+     * early while it is {@code false}. Subscription changes only update this flag, so platform
+     * listeners are never registered or unregistered from the thread that changed a
+     * subscription.</p>
+     *
+     * @param types    Chameleon event types produced by the platform listener.
+     * @param register Registers the platform listener, given the subscribed flag, and returns an
+     *                 action that unregisters it.
+     */
+    protected final void registerBridge(@NotNull Set<Class<? extends ChameleonEvent>> types, @NotNull Function<BooleanSupplier, Runnable> register) {
+        Preconditions.checkNotNullOrEmpty("types", types);
+        Preconditions.checkNotNull("register", register);
 
+        Bridge bridge = new Bridge(Set.copyOf(types));
+        this.bridges.add(bridge);
+        synchronized (this) {
+            if (this.subscriptionListener == null) {
+                this.subscriptionListener = this.eventBus.addSubscriptionListener(this::refreshBridges);
+            }
+        }
+        bridge.refresh(this.eventBus);
+        bridge.setUnregister(Preconditions.checkNotNull("unregister", register.apply(bridge::isSubscribed)));
     }
 
     /**
@@ -65,4 +118,50 @@ public abstract class PlatformEventDispatcher {
         return event;
     }
 
+    private void refreshBridges() {
+        for (Bridge bridge : this.bridges) {
+            bridge.refresh(this.eventBus);
+        }
+    }
+
+    private static final class Bridge {
+
+        private final @NotNull Set<Class<? extends ChameleonEvent>> types;
+        private volatile boolean subscribed = false;
+        private volatile @Nullable Runnable unregister;
+
+        Bridge(@NotNull Set<Class<? extends ChameleonEvent>> types) {
+            this.types = types;
+        }
+
+        boolean isSubscribed() {
+            return this.subscribed;
+        }
+
+        synchronized void refresh(@NotNull EventBus eventBus) {
+            // Computed under the lock so a slower refresh cannot overwrite a newer result.
+            boolean subscribed = false;
+            for (Class<? extends ChameleonEvent> type : this.types) {
+                if (eventBus.subscribed(type)) {
+                    subscribed = true;
+                    break;
+                }
+            }
+            this.subscribed = subscribed;
+        }
+
+        void setUnregister(@NotNull Runnable unregister) {
+            this.unregister = unregister;
+        }
+
+        void unregister() {
+            this.subscribed = false;
+            Runnable unregister = this.unregister;
+            if (unregister != null) {
+                unregister.run();
+            }
+        }
+
+    }
+
 }
@@ -30,7 +30,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.EventBus;
 import dev.hypera.chameleon.event.EventBusImpl;
+import dev.hypera.chameleon.event.EventSubscription;
 import dev.hypera.chameleon.logger.ChameleonNoopLogger;
+import java.util.Set;
+import java.util.function.IntSupplier;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -62,9 +65,35 @@ final class PlatformEventDispatcherTests {
         assertEquals(1, event.getTouches());
     }
 
+    @Test
+    void testBridge() {
+        // Registering the bridge should register the platform listener straight away
+        this.eventDispatcher.registerTestBridge();
+        assertTrue(this.eventDispatcher.isBridged());
+        assertEquals(0, this.eventDispatcher.fire());
+
+        // Subscribing should let the platform listener forward events
+        EventSubscription subscription = this.eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        assertEquals(1, this.eventDispatcher.fire());
+
+        // Unsubscribing should stop the platform listener forwarding events
+        subscription.unsubscribe();
+        assertEquals(0, this.eventDispatcher.fire());
+
+        // Unregistering listeners should unregister the bridge and stop tracking subscriptions
+        this.eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        assertEquals(1, this.eventDispatcher.fire());
+        this.eventDispatcher.unregisterListeners();
+        assertFalse(this.eventDispatcher.isBridged());
+        this.eventBus.subscribe(TestEvent.class, event -> {});
+        assertEquals(0, this.eventDispatcher.fire());
+    }
+
     private static final class PlatformEventDispatcherImpl extends PlatformEventDispatcher {
 
         private boolean registered = false;
+        private boolean bridged = false;
+        private @NotNull IntSupplier listener = () -> 0;
 
         PlatformEventDispatcherImpl(@NotNull EventBus eventBus) {
             super(eventBus);
@@ -91,10 +120,26 @@ final class PlatformEventDispatcherTests {
             super.unregisterListeners();
         }
 
+        void registerTestBridge() {
+            registerBridge(Set.of(TestEvent.class), subscribed -> {
+                this.listener = () -> subscribed.getAsBoolean() ? handleEvent(new TestEvent()).getTouches() : 0;
+                this.bridged = true;
+                return () -> this.bridged = false;
+            });
+        }
+
+        int fire() {
+            return this.listener.getAsInt();
+        }
+
         boolean isRegistered() {
             return this.registered;
         }
 
+        boolean isBridged() {
+            return this.bridged;
+        }
+
     }
 
     private static final class TestEvent implements ChameleonEvent {
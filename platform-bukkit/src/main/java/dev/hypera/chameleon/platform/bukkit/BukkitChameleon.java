@@ -70,6 +70,7 @@ public final class BukkitChameleon extends PlatformChameleon<JavaPlugin> {
         @NotNull ExtensionMap extensions
     ) {
         super(pluginBootstrap, bukkitPlugin, eventBus, logger, extensions);
+        this.scheduler.setLogger(getLogger());
     }
 
     /**
@@ -105,6 +106,7 @@ public final class BukkitChameleon extends PlatformChameleon<JavaPlugin> {
         this.eventDispatcher.unregisterListeners();
         this.userManager.unregisterListeners();
         this.userManager.close();
+        this.scheduler.close();
     }
 
     /**
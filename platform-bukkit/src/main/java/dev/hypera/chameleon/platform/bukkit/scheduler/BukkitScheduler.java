@@ -26,6 +26,7 @@ package dev.hypera.chameleon.platform.bukkit.scheduler;
 import dev.hypera.chameleon.scheduler.Schedule;
 import dev.hypera.chameleon.scheduler.ScheduledTask;
 import dev.hypera.chameleon.scheduler.Scheduler;
+import java.util.concurrent.Executor;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
@@ -42,6 +43,7 @@ public class BukkitScheduler extends Scheduler {
 
     private static final int CRAFT_NO_REPEATING = -1;
     protected final @NotNull JavaPlugin plugin;
+    private final @NotNull Executor syncExecutor = task -> Bukkit.getScheduler().runTask(this.plugin, task);
 
     BukkitScheduler(@NotNull JavaPlugin plugin) {
         this.plugin = plugin;
@@ -61,13 +63,12 @@ public class BukkitScheduler extends Scheduler {
         return new BukkitScheduler(plugin);
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimerAsynchronously(
-            this.plugin, task, delay.toTicks(),
-            repeat.toTicks() < 1 ? CRAFT_NO_REPEATING : repeat.toTicks()
-        );
-        return bukkitTask::cancel;
+    public @NotNull Executor syncExecutor() {
+        return this.syncExecutor;
     }
 
     @Override
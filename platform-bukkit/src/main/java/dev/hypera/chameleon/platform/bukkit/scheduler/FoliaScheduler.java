@@ -23,13 +23,18 @@
  */
 package dev.hypera.chameleon.platform.bukkit.scheduler;
 
+import dev.hypera.chameleon.platform.bukkit.user.BukkitUser;
 import dev.hypera.chameleon.platform.util.ReflectionUtil;
 import dev.hypera.chameleon.scheduler.Schedule;
 import dev.hypera.chameleon.scheduler.ScheduledTask;
-import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
+import dev.hypera.chameleon.user.User;
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
 import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
-import java.util.concurrent.TimeUnit;
+import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
+import java.util.concurrent.Executor;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -42,6 +47,8 @@ final class FoliaScheduler extends BukkitScheduler {
 
     static final boolean SUPPORTED = ReflectionUtil.hasClass("io.papermc.paper.threadedregions.RegionizedServer");
 
+    private final @NotNull Executor syncExecutor = task -> Bukkit.getGlobalRegionScheduler().execute(this.plugin, task);
+
     FoliaScheduler(@NotNull JavaPlugin plugin) {
         super(plugin);
     }
@@ -50,13 +57,8 @@ final class FoliaScheduler extends BukkitScheduler {
      * {@inheritDoc}
      */
     @Override
-    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        AsyncScheduler scheduler = Bukkit.getAsyncScheduler();
-        long period = repeat.toMillis();
-        io.papermc.paper.threadedregions.scheduler.ScheduledTask foliaTask = period > 0
-            ? scheduler.runAtFixedRate(this.plugin, t -> task.run(), delay.toMillis(), period, TimeUnit.MILLISECONDS)
-            : scheduler.runDelayed(this.plugin, t -> task.run(), delay.toMillis(), TimeUnit.MILLISECONDS);
-        return foliaTask::cancel;
+    public @NotNull Executor syncExecutor() {
+        return this.syncExecutor;
     }
 
     /**
@@ -72,4 +74,49 @@ final class FoliaScheduler extends BukkitScheduler {
         return foliaTask::cancel;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull ScheduledTask scheduleUserTask(@NotNull Runnable task, @NotNull Runnable retired, @NotNull User user, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        Player player = user instanceof BukkitUser ? ((BukkitUser) user).getPlayer() : Bukkit.getPlayer(user.getId());
+        if (player == null) {
+            return scheduleSyncTask(task, delay, repeat);
+        }
+
+        // Folia requires a delay of at least one tick for delayed and repeating tasks.
+        EntityScheduler scheduler = player.getScheduler();
+        long period = repeat.toTicks();
+        io.papermc.paper.threadedregions.scheduler.ScheduledTask foliaTask = period > 0
+            ? scheduler.runAtFixedRate(this.plugin, t -> task.run(), retired, Math.max(delay.toTicks(), 1), period)
+            : scheduler.runDelayed(this.plugin, t -> task.run(), retired, Math.max(delay.toTicks(), 1));
+
+        // The entity scheduler returns null if the player has already been removed.
+        if (foliaTask == null) {
+            retired.run();
+            return () -> {};
+        }
+        return foliaTask::cancel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull ScheduledTask scheduleLocationTask(@NotNull Runnable task, @NotNull String world, int x, int z, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        World bukkitWorld = Bukkit.getWorld(world);
+        if (bukkitWorld == null) {
+            return scheduleSyncTask(task, delay, repeat);
+        }
+
+        RegionScheduler scheduler = Bukkit.getRegionScheduler();
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        long period = repeat.toTicks();
+        io.papermc.paper.threadedregions.scheduler.ScheduledTask foliaTask = period > 0
+            ? scheduler.runAtFixedRate(this.plugin, bukkitWorld, chunkX, chunkZ, t -> task.run(), Math.max(delay.toTicks(), 1), period)
+            : scheduler.runDelayed(this.plugin, bukkitWorld, chunkX, chunkZ, t -> task.run(), Math.max(delay.toTicks(), 1));
+        return foliaTask::cancel;
+    }
+
 }
@@ -23,6 +23,7 @@
  */
 package dev.hypera.chameleon.platform.bukkit.user;
 
+import dev.hypera.chameleon.adventure.mapper.CachedComponentSerializer;
 import dev.hypera.chameleon.platform.PlatformChameleon;
 import dev.hypera.chameleon.platform.server.GameMode;
 import dev.hypera.chameleon.platform.user.PlatformUser;
@@ -47,6 +48,9 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class BukkitUser extends PlatformUser<Player> implements ServerUser, ForwardingAudience.Single {
 
+    private static final @NotNull CachedComponentSerializer LEGACY_SERIALIZER =
+        CachedComponentSerializer.shared(LegacyComponentSerializer.legacySection());
+
     private final @NotNull PlatformChameleon<JavaPlugin> chameleon;
     private final @NotNull Player player;
     private final @NotNull Audience audience;
@@ -124,7 +128,7 @@ public final class BukkitUser extends PlatformUser<Player> implements ServerUser
     @SuppressWarnings("deprecation") // Paper
     public void disconnect(@NotNull Component reason) {
         Preconditions.checkNotNull("reason", reason);
-        this.player.kickPlayer(LegacyComponentSerializer.legacySection().serialize(reason));
+        this.player.kickPlayer(LEGACY_SERIALIZER.serialize(reason));
     }
 
     /**
@@ -54,7 +54,7 @@ public final class BungeeCordChameleon extends PlatformChameleon<Plugin> {
     private final @NotNull BungeeCordCommandManager commandManager = new BungeeCordCommandManager(this);
     private final @NotNull BungeeCordPluginManager pluginManager = new BungeeCordPluginManager();
     private final @NotNull BungeeCordUserManager userManager = new BungeeCordUserManager(this);
-    private final @NotNull BungeeCordScheduler scheduler = new BungeeCordScheduler(this);
+    private final @NotNull BungeeCordScheduler scheduler = new BungeeCordScheduler();
     private final @NotNull BungeeCordAudienceProvider audienceProvider = new BungeeCordAudienceProvider(this.userManager);
     private final @NotNull BungeeCordEventDispatcher eventDispatcher = new BungeeCordEventDispatcher(this);
 
@@ -67,6 +67,7 @@ public final class BungeeCordChameleon extends PlatformChameleon<Plugin> {
         @NotNull ExtensionMap extensions
     ) {
         super(pluginBootstrap, bungeePlugin, eventBus, logger, extensions);
+        this.scheduler.setLogger(getLogger());
     }
 
     /**
@@ -102,6 +103,7 @@ public final class BungeeCordChameleon extends PlatformChameleon<Plugin> {
         this.eventDispatcher.unregisterListeners();
         this.userManager.unregisterListeners();
         this.userManager.close();
+        this.scheduler.close();
     }
 
     /**
@@ -23,6 +23,7 @@
  */
 package dev.hypera.chameleon.platform.bungeecord.event;
 
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -34,12 +35,16 @@ import dev.hypera.chameleon.platform.event.PlatformEventDispatcher;
 import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.user.ProxyUser;
 import dev.hypera.chameleon.user.User;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import net.md_5.bungee.api.config.ServerInfo;
 import net.md_5.bungee.api.event.ChatEvent;
 import net.md_5.bungee.api.event.PlayerDisconnectEvent;
 import net.md_5.bungee.api.event.PostLoginEvent;
 import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.api.plugin.Listener;
+import net.md_5.bungee.api.plugin.PluginManager;
 import net.md_5.bungee.event.EventHandler;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.Contract;
@@ -48,7 +53,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * BungeeCord event dispatcher.
  */
-public final class BungeeCordEventDispatcher extends PlatformEventDispatcher implements Listener {
+public final class BungeeCordEventDispatcher extends PlatformEventDispatcher {
 
     private final @NotNull BungeeCordChameleon chameleon;
 
@@ -68,16 +73,11 @@ public final class BungeeCordEventDispatcher extends PlatformEventDispatcher imp
      */
     @Override
     public void registerListeners() {
-        this.chameleon.getPlatformPlugin().getProxy().getPluginManager()
-            .registerListener(this.chameleon.getPlatformPlugin(), this);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void unregisterListeners() {
-        this.chameleon.getPlatformPlugin().getProxy().getPluginManager().unregisterListener(this);
+        registerBridge(PostLoginListener::new, Set.of(UserConnectEvent.class));
+        registerBridge(ChatListener::new, Set.of(UserChatEvent.class));
+        registerBridge(PlayerDisconnectListener::new, Set.of(UserDisconnectEvent.class));
+        registerBridge(ServerSwitchListener::new,
+            Set.of(ProxyUserConnectedEvent.class, ProxyUserServerConnectedEvent.class));
     }
 
     /**
@@ -85,8 +85,7 @@ public final class BungeeCordEventDispatcher extends PlatformEventDispatcher imp
      *
      * @param event Platform event.
      */
-    @EventHandler
-    public void onPostLoginEvent(@NotNull PostLoginEvent event) {
+    private void onPostLoginEvent(@NotNull PostLoginEvent event) {
         User user = this.chameleon.getUserManager().wrapUser(event.getPlayer());
         UserConnectEvent chameleonEvent = dispatch(new UserConnectEvent(user, false));
 
@@ -101,8 +100,7 @@ public final class BungeeCordEventDispatcher extends PlatformEventDispatcher imp
      *
      * @param event Platform event.
      */
-    @EventHandler
-    public void onChatEvent(@NotNull ChatEvent event) {
+    private void onChatEvent(@NotNull ChatEvent event) {
         UserChatEvent chameleonEvent = dispatch(new UserChatEvent(
             this.chameleon.getUserManager().wrapUser(event.getSender()),
             event.getMessage(), event.isCancelled(),
@@ -125,8 +123,7 @@ public final class BungeeCordEventDispatcher extends PlatformEventDispatcher imp
      *
      * @param event Platform event.
      */
-    @EventHandler
-    public void onPlayerDisconnectEvent(@NotNull PlayerDisconnectEvent event) {
+    private void onPlayerDisconnectEvent(@NotNull PlayerDisconnectEvent event) {
         dispatch(new UserDisconnectEvent(this.chameleon.getUserManager()
             .wrapUser(event.getPlayer())));
     }
@@ -136,8 +133,7 @@ public final class BungeeCordEventDispatcher extends PlatformEventDispatcher imp
      *
      * @param event Platform event.
      */
-    @EventHandler
-    public void onServerSwitchEvent(@NotNull ServerSwitchEvent event) {
+    private void onServerSwitchEvent(@NotNull ServerSwitchEvent event) {
         ProxyUser user = (ProxyUser) this.chameleon.getUserManager().wrapUser(event.getPlayer());
         Server server = wrapServer(event.getPlayer().getServer().getInfo());
 
@@ -150,9 +146,139 @@ public final class BungeeCordEventDispatcher extends PlatformEventDispatcher imp
             event.getFrom() != null ? wrapServer(event.getFrom()) : null));
     }
 
+    /**
+     * Registers a BungeeCord listener that only handles events while the given Chameleon events
+     * have subscribers.
+     *
+     * @param listener Creates the BungeeCord listener from the subscribed flag.
+     * @param events   Chameleon event types dispatched by the listener.
+     */
+    private void registerBridge(@NotNull Function<BooleanSupplier, BridgeListener> listener, @NotNull Set<Class<? extends ChameleonEvent>> events) {
+        PluginManager pluginManager = this.chameleon.getPlatformPlugin().getProxy().getPluginManager();
+        registerBridge(events, subscribed -> {
+            Listener bridged = listener.apply(subscribed);
+            pluginManager.registerListener(this.chameleon.getPlatformPlugin(), bridged);
+            return () -> pluginManager.unregisterListener(bridged);
+        });
+    }
+
     @Contract(value = "_ -> new", pure = true)
     private @NotNull Server wrapServer(@NotNull ServerInfo server) {
         return new BungeeCordServer(this.chameleon, server);
     }
 
+    /**
+     * Platform listener that only handles events while its bridge is subscribed.
+     */
+    @Internal
+    public abstract static class BridgeListener implements Listener {
+
+        private final @NotNull BooleanSupplier subscribed;
+
+        BridgeListener(@NotNull BooleanSupplier subscribed) {
+            this.subscribed = subscribed;
+        }
+
+        final boolean isSubscribed() {
+            return this.subscribed.getAsBoolean();
+        }
+
+    }
+
+    /**
+     * Platform user connect listener.
+     */
+    @Internal
+    public final class PostLoginListener extends BridgeListener {
+
+        PostLoginListener(@NotNull BooleanSupplier subscribed) {
+            super(subscribed);
+        }
+
+        /**
+         * Platform user connect event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull PostLoginEvent event) {
+            if (isSubscribed()) {
+                onPostLoginEvent(event);
+            }
+        }
+
+    }
+
+    /**
+     * Platform user chat listener.
+     */
+    @Internal
+    public final class ChatListener extends BridgeListener {
+
+        ChatListener(@NotNull BooleanSupplier subscribed) {
+            super(subscribed);
+        }
+
+        /**
+         * Platform user chat event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull ChatEvent event) {
+            if (isSubscribed()) {
+                onChatEvent(event);
+            }
+        }
+
+    }
+
+    /**
+     * Platform user disconnect listener.
+     */
+    @Internal
+    public final class PlayerDisconnectListener extends BridgeListener {
+
+        PlayerDisconnectListener(@NotNull BooleanSupplier subscribed) {
+            super(subscribed);
+        }
+
+        /**
+         * Platform user disconnect event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull PlayerDisconnectEvent event) {
+            if (isSubscribed()) {
+                onPlayerDisconnectEvent(event);
+            }
+        }
+
+    }
+
+    /**
+     * Platform proxy user switch listener.
+     */
+    @Internal
+    public final class ServerSwitchListener extends BridgeListener {
+
+        ServerSwitchListener(@NotNull BooleanSupplier subscribed) {
+            super(subscribed);
+        }
+
+        /**
+         * Platform proxy user switch event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull ServerSwitchEvent event) {
+            if (isSubscribed()) {
+                onServerSwitchEvent(event);
+            }
+        }
+
+    }
+
 }
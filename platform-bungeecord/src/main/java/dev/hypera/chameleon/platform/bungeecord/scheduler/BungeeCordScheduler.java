@@ -23,12 +23,10 @@
  */
 package dev.hypera.chameleon.platform.bungeecord.scheduler;
 
-import dev.hypera.chameleon.platform.bungeecord.BungeeCordChameleon;
 import dev.hypera.chameleon.scheduler.Schedule;
 import dev.hypera.chameleon.scheduler.ScheduledTask;
 import dev.hypera.chameleon.scheduler.Scheduler;
-import java.util.concurrent.TimeUnit;
-import net.md_5.bungee.api.ProxyServer;
+import java.util.concurrent.Executor;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,26 +36,21 @@ import org.jetbrains.annotations.NotNull;
 @Internal
 public final class BungeeCordScheduler extends Scheduler {
 
-    private final @NotNull BungeeCordChameleon chameleon;
-
     /**
      * BungeeCord scheduler constructor.
-     *
-     * @param chameleon BungeeCord Chameleon implementation.
      */
     @Internal
-    public BungeeCordScheduler(@NotNull BungeeCordChameleon chameleon) {
-        this.chameleon = chameleon;
+    public BungeeCordScheduler() {
+        // Asynchronous tasks are handled by the Chameleon timer.
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        net.md_5.bungee.api.scheduler.ScheduledTask scheduledTask = ProxyServer.getInstance()
-            .getScheduler().schedule(this.chameleon.getPlatformPlugin(),
-                task, delay.toMillis(), repeat.toMillis(), TimeUnit.MILLISECONDS
-            );
-
-        return () -> ProxyServer.getInstance().getScheduler().cancel(scheduledTask);
+    public @NotNull Executor syncExecutor() {
+        // BungeeCord does not support synchronous tasks.
+        return asyncExecutor();
     }
 
     @Override
@@ -67,6 +67,7 @@ public final class NukkitChameleon extends PlatformChameleon<PluginBase> {
         @NotNull ExtensionMap extensions
     ) {
         super(pluginBootstrap, nukkitPlugin, eventBus, logger, extensions);
+        this.scheduler.setLogger(getLogger());
     }
 
     /**
@@ -101,6 +102,7 @@ public final class NukkitChameleon extends PlatformChameleon<PluginBase> {
         this.eventDispatcher.unregisterListeners();
         this.userManager.unregisterListeners();
         this.userManager.close();
+        this.scheduler.close();
     }
 
     /**
@@ -33,6 +33,8 @@ import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerKickEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
 import cn.nukkit.plugin.PluginBase;
+import dev.hypera.chameleon.adventure.mapper.CachedComponentSerializer;
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -44,6 +46,7 @@ import dev.hypera.chameleon.platform.nukkit.user.NukkitUserManager;
 import dev.hypera.chameleon.platform.user.PlatformUserManager;
 import dev.hypera.chameleon.user.ServerUser;
 import dev.hypera.chameleon.user.User;
+import java.util.Set;
 import java.util.function.Consumer;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.ApiStatus.Internal;
@@ -52,7 +55,10 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Nukkit event dispatcher.
  */
-public final class NukkitEventDispatcher extends PlatformEventDispatcher implements Listener {
+public final class NukkitEventDispatcher extends PlatformEventDispatcher {
+
+    private static final @NotNull CachedComponentSerializer LEGACY_SERIALIZER =
+        CachedComponentSerializer.shared(LegacyComponentSerializer.legacySection());
 
     private final @NotNull PlatformChameleon<PluginBase> chameleon;
 
@@ -75,7 +81,7 @@ public final class NukkitEventDispatcher extends PlatformEventDispatcher impleme
         PlatformUserManager<Player, NukkitUser> userManager = (NukkitUserManager) this.chameleon.getUserManager();
 
         // Connect event
-        registerListener(this.chameleon, this, PlayerJoinEvent.class, EventPriority.NORMAL, event -> {
+        registerBridge(PlayerJoinEvent.class, EventPriority.NORMAL, true, event -> {
             User user = userManager.wrapUser(event.getPlayer());
             UserConnectEvent chameleonEvent = dispatch(new UserConnectEvent(user, false));
 
@@ -83,10 +89,10 @@ public final class NukkitEventDispatcher extends PlatformEventDispatcher impleme
             if (chameleonEvent.isCancelled()) {
                 user.disconnect(chameleonEvent.getCancelReason());
             }
-        });
+        }, Set.of(UserConnectEvent.class));
 
         // Chat event
-        registerListener(this.chameleon, this, PlayerChatEvent.class, EventPriority.NORMAL, false, event -> {
+        registerBridge(PlayerChatEvent.class, EventPriority.NORMAL, false, event -> {
             UserChatEvent chameleonEvent = dispatch(new UserChatEvent(
                 userManager.wrapUser(event.getPlayer()),
                 event.getMessage(), event.isCancelled(),
@@ -101,26 +107,47 @@ public final class NukkitEventDispatcher extends PlatformEventDispatcher impleme
             if (chameleonEvent.isCancellable() != event.isCancelled()) {
                 event.setCancelled(chameleonEvent.isCancelled());
             }
-        });
+        }, Set.of(UserChatEvent.class));
 
         // Disconnect event
-        registerListener(this.chameleon, this, PlayerQuitEvent.class, EventPriority.NORMAL, event ->
-            dispatch(new UserDisconnectEvent(userManager.wrapUser(event.getPlayer()))));
+        registerBridge(PlayerQuitEvent.class, EventPriority.NORMAL, true, event ->
+            dispatch(new UserDisconnectEvent(userManager.wrapUser(event.getPlayer()))), Set.of(UserDisconnectEvent.class));
 
         // Kick event
-        registerListener(this.chameleon, this, PlayerKickEvent.class, EventPriority.NORMAL, event ->
+        registerBridge(PlayerKickEvent.class, EventPriority.NORMAL, true, event ->
             dispatch(new ServerUserKickEvent(
                 (ServerUser) userManager.wrapUser(event.getPlayer()),
-                LegacyComponentSerializer.legacySection().deserialize(event.getReason())
-            )));
+                LEGACY_SERIALIZER.deserialize(event.getReason())
+            )), Set.of(ServerUserKickEvent.class));
     }
 
     /**
-     * {@inheritDoc}
+     * Registers a Nukkit listener that only forwards events while the given Chameleon events have
+     * subscribers.
+     *
+     * @param type            Nukkit event type.
+     * @param priority        Nukkit listener priority.
+     * @param ignoreCancelled Whether to ignore cancelled events.
+     * @param handler         Listener handler callback.
+     * @param events          Chameleon event types dispatched by the handler.
+     * @param <T>             Nukkit event type.
      */
-    @Override
-    public void unregisterListeners() {
-        HandlerList.unregisterAll(this);
+    private <T extends Event> void registerBridge(
+        @NotNull Class<T> type,
+        @NotNull EventPriority priority,
+        boolean ignoreCancelled,
+        @NotNull Consumer<T> handler,
+        @NotNull Set<Class<? extends ChameleonEvent>> events
+    ) {
+        registerBridge(events, subscribed -> {
+            Listener listener = new Listener() {};
+            registerListener(this.chameleon, listener, type, priority, ignoreCancelled, event -> {
+                if (subscribed.getAsBoolean()) {
+                    handler.accept(event);
+                }
+            });
+            return () -> HandlerList.unregisterAll(listener);
+        });
     }
 
     /**
@@ -29,6 +29,7 @@ import dev.hypera.chameleon.platform.nukkit.NukkitChameleon;
 import dev.hypera.chameleon.scheduler.Schedule;
 import dev.hypera.chameleon.scheduler.ScheduledTask;
 import dev.hypera.chameleon.scheduler.Scheduler;
+import java.util.concurrent.Executor;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -39,6 +40,7 @@ import org.jetbrains.annotations.NotNull;
 public final class NukkitScheduler extends Scheduler {
 
     private final @NotNull NukkitChameleon chameleon;
+    private final @NotNull Executor syncExecutor;
 
     /**
      * Nukkit scheduler constructor.
@@ -48,15 +50,15 @@ public final class NukkitScheduler extends Scheduler {
     @Internal
     public NukkitScheduler(@NotNull NukkitChameleon chameleon) {
         this.chameleon = chameleon;
+        this.syncExecutor = task -> Server.getInstance().getScheduler().scheduleTask(chameleon.getPlatformPlugin(), task);
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        TaskHandler handler = Server.getInstance().getScheduler().scheduleDelayedRepeatingTask(
-            this.chameleon.getPlatformPlugin(), task, (int) delay.toTicks(), (int) repeat.toTicks(), true
-        );
-
-        return handler::cancel;
+    public @NotNull Executor syncExecutor() {
+        return this.syncExecutor;
     }
 
     @Override
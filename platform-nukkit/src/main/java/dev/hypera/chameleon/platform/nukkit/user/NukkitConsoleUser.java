@@ -24,6 +24,7 @@
 package dev.hypera.chameleon.platform.nukkit.user;
 
 import cn.nukkit.Server;
+import dev.hypera.chameleon.adventure.mapper.CachedComponentSerializer;
 import dev.hypera.chameleon.platform.user.PlatformChatUser;
 import dev.hypera.chameleon.user.ConsoleUser;
 import dev.hypera.chameleon.util.Preconditions;
@@ -57,6 +58,9 @@ import org.jetbrains.annotations.UnknownNullability;
  */
 public final class NukkitConsoleUser extends PlatformChatUser implements ConsoleUser {
 
+    private static final @NotNull CachedComponentSerializer LEGACY_SERIALIZER =
+        CachedComponentSerializer.shared(LegacyComponentSerializer.legacySection());
+
     private final @NotNull Pointers pointers;
 
     /**
@@ -113,7 +117,7 @@ public final class NukkitConsoleUser extends PlatformChatUser implements Console
         Preconditions.checkNotNull("message", message);
         Server.getInstance()
             .getConsoleSender()
-            .sendMessage(LegacyComponentSerializer.legacySection().serialize(message));
+            .sendMessage(LEGACY_SERIALIZER.serialize(message));
     }
 
     /**
@@ -128,7 +132,7 @@ public final class NukkitConsoleUser extends PlatformChatUser implements Console
         Preconditions.checkNotNull("boundChatType", boundChatType);
         Server.getInstance()
             .getConsoleSender()
-            .sendMessage(LegacyComponentSerializer.legacySection().serialize(message));
+            .sendMessage(LEGACY_SERIALIZER.serialize(message));
     }
 
     /**
@@ -167,7 +171,7 @@ public final class NukkitConsoleUser extends PlatformChatUser implements Console
         Preconditions.checkNotNull("type", type);
         Server.getInstance()
             .getConsoleSender()
-            .sendMessage(LegacyComponentSerializer.legacySection().serialize(message));
+            .sendMessage(LEGACY_SERIALIZER.serialize(message));
     }
 
     /**
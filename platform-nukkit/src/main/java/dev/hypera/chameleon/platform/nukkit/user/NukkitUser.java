@@ -25,6 +25,7 @@ package dev.hypera.chameleon.platform.nukkit.user;
 
 import cn.nukkit.Player;
 import cn.nukkit.network.protocol.SetTitlePacket;
+import dev.hypera.chameleon.adventure.mapper.CachedComponentSerializer;
 import dev.hypera.chameleon.platform.server.GameMode;
 import dev.hypera.chameleon.platform.user.PlatformUser;
 import dev.hypera.chameleon.user.ServerUser;
@@ -61,6 +62,9 @@ import org.jetbrains.annotations.UnknownNullability;
  */
 public final class NukkitUser extends PlatformUser<Player> implements ServerUser {
 
+    private static final @NotNull CachedComponentSerializer LEGACY_SERIALIZER =
+        CachedComponentSerializer.shared(LegacyComponentSerializer.legacySection());
+
     private final @NotNull Player player;
     private final @NotNull Pointers pointers;
 
@@ -76,7 +80,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
             .withDynamic(Identity.NAME, player::getName)
             .withDynamic(Identity.UUID, player::getUniqueId)
             .withDynamic(Identity.DISPLAY_NAME, () ->
-                LegacyComponentSerializer.legacySection().deserialize(player.getDisplayName()))
+                LEGACY_SERIALIZER.deserialize(player.getDisplayName()))
             .withDynamic(Identity.LOCALE, player::getLocale)
             .build();
     }
@@ -135,7 +139,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
     @Override
     public void disconnect(@NotNull Component reason) {
         Preconditions.checkNotNull("reason", reason);
-        this.player.kick(LegacyComponentSerializer.legacySection().serialize(reason));
+        this.player.kick(LEGACY_SERIALIZER.serialize(reason));
     }
 
     /**
@@ -196,7 +200,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
     @Override
     public void sendMessage(@NotNull Component message) {
         Preconditions.checkNotNull("message", message);
-        this.player.sendMessage(LegacyComponentSerializer.legacySection().serialize(message));
+        this.player.sendMessage(LEGACY_SERIALIZER.serialize(message));
     }
 
     /**
@@ -209,7 +213,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
     public void sendMessage(@NotNull Component message, @NotNull ChatType.Bound boundChatType) {
         Preconditions.checkNotNull("message", message);
         Preconditions.checkNotNull("boundChatType", boundChatType);
-        this.player.sendMessage(LegacyComponentSerializer.legacySection().serialize(message));
+        this.player.sendMessage(LEGACY_SERIALIZER.serialize(message));
     }
 
     /**
@@ -246,7 +250,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
         Preconditions.checkNotNull("source", source);
         Preconditions.checkNotNull("message", message);
         Preconditions.checkNotNull("type", type);
-        this.player.sendMessage(LegacyComponentSerializer.legacySection().serialize(message));
+        this.player.sendMessage(LEGACY_SERIALIZER.serialize(message));
     }
 
     /**
@@ -267,7 +271,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
     @Override
     public void sendActionBar(@NotNull Component message) {
         Preconditions.checkNotNull("message", message);
-        this.player.sendActionBar(LegacyComponentSerializer.legacySection().serialize(message));
+        this.player.sendActionBar(LEGACY_SERIALIZER.serialize(message));
     }
 
     /**
@@ -319,7 +323,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
             if (part.equals(TitlePart.TITLE)) {
                 SetTitlePacket packet = new SetTitlePacket();
                 packet.type = SetTitlePacket.TYPE_TITLE;
-                packet.text = LegacyComponentSerializer.legacySection().serialize((Component) value);
+                packet.text = LEGACY_SERIALIZER.serialize((Component) value);
                 this.player.dataPacket(packet);
                 return;
             }
@@ -327,7 +331,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
             if (part.equals(TitlePart.SUBTITLE)) {
                 SetTitlePacket packet = new SetTitlePacket();
                 packet.type = SetTitlePacket.TYPE_SUBTITLE;
-                packet.text = LegacyComponentSerializer.legacySection().serialize((Component) value);
+                packet.text = LEGACY_SERIALIZER.serialize((Component) value);
                 this.player.dataPacket(packet);
             }
 
@@ -31,11 +31,15 @@ import cn.nukkit.event.Listener;
 import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
 import cn.nukkit.plugin.PluginBase;
+import dev.hypera.chameleon.adventure.mapper.CachedComponentSerializer;
 import dev.hypera.chameleon.platform.PlatformChameleon;
 import dev.hypera.chameleon.platform.nukkit.event.NukkitEventDispatcher;
 import dev.hypera.chameleon.platform.user.PlatformUserManager;
 import dev.hypera.chameleon.user.ChatUser;
 import dev.hypera.chameleon.user.ConsoleUser;
+import dev.hypera.chameleon.util.Preconditions;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,6 +48,9 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class NukkitUserManager extends PlatformUserManager<Player, NukkitUser> implements Listener {
 
+    private static final @NotNull CachedComponentSerializer LEGACY_SERIALIZER =
+        CachedComponentSerializer.shared(LegacyComponentSerializer.legacySection());
+
     private final @NotNull PlatformChameleon<PluginBase> chameleon;
 
     /**
@@ -77,6 +84,19 @@ public final class NukkitUserManager extends PlatformUserManager<Player, NukkitU
         HandlerList.unregisterAll(this);
     }
 
+    /**
+     * Sends a message to every online user, serializing it only once.
+     *
+     * @param message Message to send.
+     */
+    public void broadcastMessage(@NotNull Component message) {
+        Preconditions.checkNotNull("message", message);
+        String serialized = LEGACY_SERIALIZER.serialize(message);
+        for (NukkitUser user : getUsers()) {
+            user.getPlayer().sendMessage(serialized);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -58,7 +58,7 @@ public final class SpongeChameleon extends PlatformChameleon<SpongePlugin> {
     private final @NotNull SpongeEventDispatcher eventDispatcher = new SpongeEventDispatcher(this);
     private final @NotNull SpongeUserManager userManager = new SpongeUserManager(this);
     private final @NotNull SpongeScheduler scheduler = new SpongeScheduler(this);
-    private final @NotNull ChameleonAudienceProvider audienceProvider = new StandaloneAudienceProvider(this.userManager);
+    private final @NotNull ChameleonAudienceProvider audienceProvider = new StandaloneAudienceProvider(this.userManager, this.adventureMapper);
 
     @Internal
     SpongeChameleon(
@@ -69,6 +69,7 @@ public final class SpongeChameleon extends PlatformChameleon<SpongePlugin> {
         @NotNull ExtensionMap extensions
     ) {
         super(pluginBootstrap, spongePlugin, eventBus, logger, extensions);
+        this.scheduler.setLogger(getLogger());
     }
 
     /**
@@ -117,6 +118,7 @@ public final class SpongeChameleon extends PlatformChameleon<SpongePlugin> {
         this.eventDispatcher.unregisterListeners();
         this.userManager.unregisterListeners();
         this.userManager.close();
+        this.scheduler.close();
     }
 
     /**
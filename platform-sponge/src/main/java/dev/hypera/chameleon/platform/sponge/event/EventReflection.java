@@ -27,8 +27,8 @@ import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
 import dev.hypera.chameleon.adventure.mapper.ComponentMapper;
 import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
-import java.util.Objects;
+import dev.hypera.chameleon.util.internal.ReflectionUtil;
+import java.lang.invoke.MethodHandle;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -39,7 +39,7 @@ import org.spongepowered.api.event.message.PlayerChatEvent;
 final class EventReflection {
 
     private final @NotNull ComponentMapper componentMapper;
-    private @Nullable Method playerChatEventSetMessageMethod;
+    private @Nullable MethodHandle playerChatEventSetMessage;
 
     EventReflection(@NotNull ComponentMapper componentMapper) {
         this.componentMapper = componentMapper;
@@ -48,8 +48,8 @@ final class EventReflection {
     void load() {
         Preconditions.checkState(!isLoaded(), "EventReflection has already been loaded");
         try {
-            this.playerChatEventSetMessageMethod = PlayerChatEvent.class.getMethod(
-                "setMessage", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
+            this.playerChatEventSetMessage = ReflectionUtil.findHandle(
+                PlayerChatEvent.class, "setMessage", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
             );
         } catch (ReflectiveOperationException ex) {
             throw new ChameleonReflectiveException(ex);
@@ -57,19 +57,16 @@ final class EventReflection {
     }
 
     boolean isLoaded() {
-        return this.componentMapper.isLoaded() &&
-            this.playerChatEventSetMessageMethod != null;
+        return this.playerChatEventSetMessage != null;
     }
 
     void setPlayerChatEventMessage(@NotNull PlayerChatEvent event, @NotNull Component component) {
-        Preconditions.checkState(isLoaded(), "EventReflection has not been loaded");
+        MethodHandle handle = this.playerChatEventSetMessage;
+        Preconditions.checkState(handle != null, "EventReflection has not been loaded");
         try {
-            Objects.requireNonNull(this.playerChatEventSetMessageMethod)
-                .invoke(event, this.componentMapper.map(component));
-        } catch (ReflectiveOperationException ex) {
-            throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.playerChatEventSetMessageMethod), event, ex
-            );
+            handle.invokeExact((Object) event, this.componentMapper.map(component));
+        } catch (Throwable ex) {
+            throw ChameleonReflectiveException.createMethodInvocationFailure("setMessage(Component)", event, ex);
         }
     }
 
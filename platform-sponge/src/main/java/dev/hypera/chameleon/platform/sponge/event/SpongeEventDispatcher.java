@@ -23,6 +23,8 @@
  */
 package dev.hypera.chameleon.platform.sponge.event;
 
+import dev.hypera.chameleon.adventure.mapper.CachedComponentSerializer;
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -33,13 +35,17 @@ import dev.hypera.chameleon.platform.sponge.SpongeChameleon;
 import dev.hypera.chameleon.platform.util.PlatformEventUtil;
 import dev.hypera.chameleon.user.ServerUser;
 import dev.hypera.chameleon.user.User;
+import java.util.Set;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
-import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.EventListenerRegistration;
+import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.entity.living.player.KickPlayerEvent;
 import org.spongepowered.api.event.message.PlayerChatEvent;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
@@ -50,6 +56,9 @@ import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 @Internal
 public final class SpongeEventDispatcher extends PlatformEventDispatcher {
 
+    private static final @NotNull CachedComponentSerializer LEGACY_SERIALIZER =
+        CachedComponentSerializer.shared(LegacyComponentSerializer.legacySection());
+
     private final @NotNull SpongeChameleon chameleon;
     private final @NotNull EventReflection eventReflection;
 
@@ -74,16 +83,11 @@ public final class SpongeEventDispatcher extends PlatformEventDispatcher {
         if (this.eventReflection.isLoaded()) {
             this.eventReflection.load();
         }
-        Sponge.eventManager().registerListeners(this.chameleon
-            .getPlatformPlugin().getPluginContainer(), this);
-    }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void unregisterListeners() {
-        Sponge.eventManager().unregisterListeners(this);
+        registerBridge(ServerSideConnectionEvent.Join.class, this::onJoinEvent, Set.of(UserConnectEvent.class));
+        registerBridge(PlayerChatEvent.class, this::onChatEvent, Set.of(UserChatEvent.class));
+        registerBridge(ServerSideConnectionEvent.Disconnect.class, this::onDisconnectEvent, Set.of(UserDisconnectEvent.class));
+        registerBridge(KickPlayerEvent.class, this::onKickEvent, Set.of(ServerUserKickEvent.class));
     }
 
     /**
@@ -91,8 +95,7 @@ public final class SpongeEventDispatcher extends PlatformEventDispatcher {
      *
      * @param event Platform event.
      */
-    @Listener
-    public void onJoinEvent(@NotNull ServerSideConnectionEvent.Join event) {
+    private void onJoinEvent(@NotNull ServerSideConnectionEvent.Join event) {
         User user = this.chameleon.getUserManager().wrapUser(event.player());
         UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
 
@@ -107,13 +110,12 @@ public final class SpongeEventDispatcher extends PlatformEventDispatcher {
      *
      * @param event Platform event.
      */
-    @Listener
-    public void onChatEvent(@NotNull PlayerChatEvent event) {
+    private void onChatEvent(@NotNull PlayerChatEvent event) {
         ServerPlayer sender = (ServerPlayer) event.cause().first(Player.class).orElse(null);
         if (sender != null) {
             String serialized;
             try {
-                serialized = LegacyComponentSerializer.legacySection().serialize(
+                serialized = LEGACY_SERIALIZER.serialize(
                     this.chameleon.getAdventureMapper().getComponentMapper()
                         .mapBackwards(event.message())
                 );
@@ -130,8 +132,7 @@ public final class SpongeEventDispatcher extends PlatformEventDispatcher {
 
             if (!serialized.equals(chameleonEvent.getMessage())) {
                 this.eventReflection.setPlayerChatEventMessage(
-                    event, LegacyComponentSerializer.legacySection()
-                        .deserialize(chameleonEvent.getMessage())
+                    event, LEGACY_SERIALIZER.deserialize(chameleonEvent.getMessage())
                 );
             }
 
@@ -146,8 +147,7 @@ public final class SpongeEventDispatcher extends PlatformEventDispatcher {
      *
      * @param event Platform event.
      */
-    @Listener
-    public void onDisconnectEvent(@NotNull ServerSideConnectionEvent.Disconnect event) {
+    private void onDisconnectEvent(@NotNull ServerSideConnectionEvent.Disconnect event) {
         this.chameleon.getEventBus().dispatch(new UserDisconnectEvent(
             this.chameleon.getUserManager().wrapUser(event.player())));
     }
@@ -157,8 +157,7 @@ public final class SpongeEventDispatcher extends PlatformEventDispatcher {
      *
      * @param event Platform event.
      */
-    @Listener
-    public void onKickEvent(@NotNull KickPlayerEvent event) {
+    private void onKickEvent(@NotNull KickPlayerEvent event) {
         try {
             this.chameleon.getEventBus().dispatch(new ServerUserKickEvent(
                 (ServerUser) this.chameleon.getUserManager().wrapUser(event.player()), event.message() == null ? null :
@@ -169,4 +168,29 @@ public final class SpongeEventDispatcher extends PlatformEventDispatcher {
         }
     }
 
+    /**
+     * Registers a Sponge event listener that only handles events while the given Chameleon events
+     * have subscribers.
+     *
+     * @param type     Sponge event type.
+     * @param listener Sponge event listener.
+     * @param events   Chameleon event types dispatched by the listener.
+     * @param <E>      Sponge event type.
+     */
+    private <E extends Event> void registerBridge(@NotNull Class<E> type, @NotNull EventListener<E> listener, @NotNull Set<Class<? extends ChameleonEvent>> events) {
+        registerBridge(events, subscribed -> {
+            EventListener<E> bridged = event -> {
+                if (subscribed.getAsBoolean()) {
+                    listener.handle(event);
+                }
+            };
+            Sponge.eventManager().registerListener(EventListenerRegistration.builder(type)
+                .plugin(this.chameleon.getPlatformPlugin().getPluginContainer())
+                .order(Order.DEFAULT)
+                .listener(bridged)
+                .build());
+            return () -> Sponge.eventManager().unregisterListeners(bridged);
+        });
+    }
+
 }
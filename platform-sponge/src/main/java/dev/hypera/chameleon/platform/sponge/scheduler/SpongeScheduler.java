@@ -51,8 +51,9 @@ public final class SpongeScheduler extends Scheduler {
     }
 
     @Override
-    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        org.spongepowered.api.scheduler.ScheduledTask scheduledTask = Sponge.asyncScheduler().submit(
+    protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        // Synchronous tasks are executed by the server scheduler, on the server's main thread.
+        org.spongepowered.api.scheduler.ScheduledTask scheduledTask = Sponge.server().scheduler().submit(
             Task.builder().execute(task)
                 .delay(delay.toMillis(), TimeUnit.MILLISECONDS)
                 .interval(repeat.toMillis(), TimeUnit.MILLISECONDS)
@@ -63,10 +64,4 @@ public final class SpongeScheduler extends Scheduler {
         return scheduledTask::cancel;
     }
 
-    @Override
-    protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        // Sponge does not support synchronous tasks.
-        return scheduleAsyncTask(task, delay, repeat);
-    }
-
 }
@@ -27,8 +27,8 @@ import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
 import dev.hypera.chameleon.adventure.mapper.ComponentMapper;
 import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
-import java.util.Objects;
+import dev.hypera.chameleon.util.internal.ReflectionUtil;
+import java.lang.invoke.MethodHandle;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -39,7 +39,7 @@ import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 final class PlayerReflection {
 
     private final @NotNull ComponentMapper componentMapper;
-    private @Nullable Method playerKickMethod;
+    private @Nullable MethodHandle playerKick;
 
     PlayerReflection(@NotNull ComponentMapper componentMapper) {
         this.componentMapper = componentMapper;
@@ -48,8 +48,8 @@ final class PlayerReflection {
     void load() {
         Preconditions.checkState(!isLoaded(), "PlayerReflection has already been loaded");
         try {
-            this.playerKickMethod = ServerPlayer.class.getMethod(
-                "kick", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
+            this.playerKick = ReflectionUtil.findHandle(
+                ServerPlayer.class, "kick", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
             );
         } catch (ReflectiveOperationException ex) {
             throw new ChameleonReflectiveException(ex);
@@ -57,18 +57,16 @@ final class PlayerReflection {
     }
 
     boolean isLoaded() {
-        return this.componentMapper.isLoaded() &&
-            this.playerKickMethod != null;
+        return this.playerKick != null;
     }
 
     void kick(@NotNull ServerPlayer player, @NotNull Component component) {
-        Preconditions.checkState(isLoaded(), "PlayerReflection has not been loaded");
+        MethodHandle handle = this.playerKick;
+        Preconditions.checkState(handle != null, "PlayerReflection has not been loaded");
         try {
-            Objects.requireNonNull(this.playerKickMethod).invoke(player, this.componentMapper.map(component));
-        } catch (ReflectiveOperationException ex) {
-            throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.playerKickMethod), player, ex
-            );
+            handle.invokeExact((Object) player, this.componentMapper.map(component));
+        } catch (Throwable ex) {
+            throw ChameleonReflectiveException.createMethodInvocationFailure("kick(Component)", player, ex);
         }
     }
 
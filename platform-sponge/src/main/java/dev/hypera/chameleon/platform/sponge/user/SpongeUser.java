@@ -157,6 +157,14 @@ public final class SpongeUser extends PlatformUser<ServerPlayer> implements Serv
         return this.audience;
     }
 
+    /**
+     * Invalidates the identity pointer snapshot for this user, used when the display name or
+     * locale of the player may have changed.
+     */
+    void invalidatePointers() {
+        this.audience.invalidatePointers();
+    }
+
     /**
      * Get the Sponge player for this user.
      *
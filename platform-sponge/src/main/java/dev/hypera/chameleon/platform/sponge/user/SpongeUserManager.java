@@ -30,8 +30,11 @@ import dev.hypera.chameleon.user.ConsoleUser;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.data.ChangeDataHolderEvent;
+import org.spongepowered.api.event.entity.living.player.PlayerChangeClientSettingsEvent;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 import org.spongepowered.api.service.permission.Subject;
 
@@ -133,6 +136,22 @@ public final class SpongeUserManager extends PlatformUserManager<ServerPlayer, S
             removeUser(event.player().uniqueId());
         }
 
+        @org.spongepowered.api.event.Listener(order = Order.POST)
+        public void onClientSettingsEvent(@NotNull PlayerChangeClientSettingsEvent event) {
+            // The locale of the player may have changed.
+            getUserById(event.player().uniqueId()).ifPresent(SpongeUser::invalidatePointers);
+        }
+
+        @org.spongepowered.api.event.Listener(order = Order.POST)
+        public void onValueChangeEvent(@NotNull ChangeDataHolderEvent.ValueChange event) {
+            if (event.targetHolder() instanceof ServerPlayer &&
+                event.endResult().successfulValue(Keys.DISPLAY_NAME).isPresent()) {
+                // The display name of the player has changed.
+                getUserById(((ServerPlayer) event.targetHolder()).uniqueId())
+                    .ifPresent(SpongeUser::invalidatePointers);
+            }
+        }
+
     }
 
 }
@@ -55,10 +55,10 @@ public final class VelocityChameleon extends PlatformChameleon<VelocityPlugin> {
     private final @NotNull VelocityCommandManager commandManager = new VelocityCommandManager(this);
     private final @NotNull VelocityPlatform platform = new VelocityPlatform(this);
     private final @NotNull VelocityPluginManager pluginManager = new VelocityPluginManager(this);
-    private final @NotNull VelocityScheduler scheduler = new VelocityScheduler(this);
+    private final @NotNull VelocityScheduler scheduler = new VelocityScheduler();
     private final @NotNull VelocityEventDispatcher eventDispatcher = new VelocityEventDispatcher(this);
     private final @NotNull VelocityUserManager userManager = new VelocityUserManager(this);
-    private final @NotNull ChameleonAudienceProvider audienceProvider = new StandaloneAudienceProvider(this.userManager);
+    private final @NotNull ChameleonAudienceProvider audienceProvider = new StandaloneAudienceProvider(this.userManager, this.adventureMapper);
 
     @Internal
     VelocityChameleon(
@@ -69,6 +69,7 @@ public final class VelocityChameleon extends PlatformChameleon<VelocityPlugin> {
         @NotNull ExtensionMap extensions
     ) {
         super(pluginBootstrap, velocityPlugin, eventBus, logger, extensions);
+        this.scheduler.setLogger(getLogger());
     }
 
     /**
@@ -123,6 +124,7 @@ public final class VelocityChameleon extends PlatformChameleon<VelocityPlugin> {
         this.eventDispatcher.unregisterListeners();
         this.userManager.unregisterListeners();
         this.userManager.close();
+        this.scheduler.close();
     }
 
     /**
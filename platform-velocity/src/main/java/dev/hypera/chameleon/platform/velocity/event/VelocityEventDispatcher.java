@@ -23,7 +23,8 @@
  */
 package dev.hypera.chameleon.platform.velocity.event;
 
-import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.EventHandler;
+import com.velocitypowered.api.event.EventManager;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.connection.PostLoginEvent;
 import com.velocitypowered.api.event.player.PlayerChatEvent;
@@ -31,6 +32,7 @@ import com.velocitypowered.api.event.player.PlayerChatEvent.ChatResult;
 import com.velocitypowered.api.event.player.ServerConnectedEvent;
 import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.proxy.server.RegisteredServer;
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -44,6 +46,7 @@ import dev.hypera.chameleon.platform.velocity.platform.objects.VelocityServer;
 import dev.hypera.chameleon.user.ProxyUser;
 import dev.hypera.chameleon.user.User;
 import dev.hypera.chameleon.util.internal.ChameleonProperty;
+import java.util.Set;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -72,17 +75,11 @@ public final class VelocityEventDispatcher extends PlatformEventDispatcher {
      */
     @Override
     public void registerListeners() {
-        this.chameleon.getPlatformPlugin().getServer().getEventManager()
-            .register(this.chameleon.getPlatformPlugin(), this);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void unregisterListeners() {
-        this.chameleon.getPlatformPlugin().getServer().getEventManager()
-            .unregisterListener(this.chameleon.getPlatformPlugin(), this);
+        registerBridge(PostLoginEvent.class, this::onPostLoginEvent, Set.of(UserConnectEvent.class));
+        registerBridge(PlayerChatEvent.class, this::onChatEvent, Set.of(UserChatEvent.class));
+        registerBridge(DisconnectEvent.class, this::onPlayerDisconnectEvent, Set.of(UserDisconnectEvent.class));
+        registerBridge(ServerConnectedEvent.class, this::onServerConnectedEvent,
+            Set.of(ProxyUserConnectedEvent.class, ProxyUserServerConnectedEvent.class));
     }
 
     /**
@@ -90,7 +87,6 @@ public final class VelocityEventDispatcher extends PlatformEventDispatcher {
      *
      * @param event Platform event.
      */
-    @Subscribe
     public void onPostLoginEvent(@NotNull PostLoginEvent event) {
         User user = this.chameleon.getUserManager().wrapUser(event.getPlayer());
         UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
@@ -106,7 +102,6 @@ public final class VelocityEventDispatcher extends PlatformEventDispatcher {
      *
      * @param event Platform event.
      */
-    @Subscribe
     public void onChatEvent(@NotNull PlayerChatEvent event) {
         boolean immutable = ChameleonProperty.PREVENT_CHAT_PROTOCOL_ERRORS.get() &&
             event.getPlayer().getProtocolVersion().compareTo(ProtocolVersion.MINECRAFT_1_19_1) >= 0;
@@ -143,7 +138,6 @@ public final class VelocityEventDispatcher extends PlatformEventDispatcher {
      *
      * @param event Platform event.
      */
-    @Subscribe
     public void onPlayerDisconnectEvent(@NotNull DisconnectEvent event) {
         dispatch(new UserDisconnectEvent(this.chameleon.getUserManager()
             .wrapUser(event.getPlayer())));
@@ -154,7 +148,6 @@ public final class VelocityEventDispatcher extends PlatformEventDispatcher {
      *
      * @param event Platform event.
      */
-    @Subscribe
     public void onServerConnectedEvent(@NotNull ServerConnectedEvent event) {
         ProxyUser user = (ProxyUser) this.chameleon.getUserManager().wrapUser(event.getPlayer());
         Server server = wrapServer(event.getServer());
@@ -168,6 +161,29 @@ public final class VelocityEventDispatcher extends PlatformEventDispatcher {
             event.getPreviousServer().map(this::wrapServer).orElse(null)));
     }
 
+    /**
+     * Registers a Velocity event handler that only handles events while the given Chameleon events
+     * have subscribers.
+     *
+     * @param type    Velocity event type.
+     * @param handler Velocity event handler.
+     * @param events  Chameleon event types dispatched by the handler.
+     * @param <E>     Velocity event type.
+     */
+    private <E> void registerBridge(@NotNull Class<E> type, @NotNull EventHandler<E> handler, @NotNull Set<Class<? extends ChameleonEvent>> events) {
+        EventManager eventManager = this.chameleon.getPlatformPlugin().getServer().getEventManager();
+        Object plugin = this.chameleon.getPlatformPlugin();
+        registerBridge(events, subscribed -> {
+            EventHandler<E> bridged = event -> {
+                if (subscribed.getAsBoolean()) {
+                    handler.execute(event);
+                }
+            };
+            eventManager.register(plugin, type, bridged);
+            return () -> eventManager.unregister(plugin, bridged);
+        });
+    }
+
     @Contract(value = "_ -> new", pure = true)
     private @NotNull Server wrapServer(@NotNull RegisteredServer server) {
         return new VelocityServer(this.chameleon, server);
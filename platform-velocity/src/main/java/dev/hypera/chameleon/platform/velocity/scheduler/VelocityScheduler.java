@@ -23,11 +23,10 @@
  */
 package dev.hypera.chameleon.platform.velocity.scheduler;
 
-import dev.hypera.chameleon.platform.velocity.VelocityChameleon;
 import dev.hypera.chameleon.scheduler.Schedule;
 import dev.hypera.chameleon.scheduler.ScheduledTask;
 import dev.hypera.chameleon.scheduler.Scheduler;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -37,27 +36,21 @@ import org.jetbrains.annotations.NotNull;
 @Internal
 public final class VelocityScheduler extends Scheduler {
 
-    private final @NotNull VelocityChameleon chameleon;
-
     /**
      * Velocity scheduler constructor.
-     *
-     * @param chameleon Velocity Chameleon implementation.
      */
     @Internal
-    public VelocityScheduler(@NotNull VelocityChameleon chameleon) {
-        this.chameleon = chameleon;
+    public VelocityScheduler() {
+        // Asynchronous tasks are handled by the Chameleon timer.
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        com.velocitypowered.api.scheduler.ScheduledTask scheduledTask = this.chameleon.getPlatformPlugin().getServer().getScheduler()
-            .buildTask(this.chameleon.getPlatformPlugin(), task)
-            .delay(delay.toMillis(), TimeUnit.MILLISECONDS)
-            .repeat(delay.toMillis(), TimeUnit.MILLISECONDS)
-            .schedule();
-
-        return scheduledTask::cancel;
+    public @NotNull Executor syncExecutor() {
+        // Velocity does not support synchronous tasks.
+        return asyncExecutor();
     }
 
     @Override
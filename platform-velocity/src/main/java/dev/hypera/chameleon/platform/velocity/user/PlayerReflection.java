@@ -28,8 +28,8 @@ import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
 import dev.hypera.chameleon.adventure.mapper.ComponentMapper;
 import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
-import java.util.Objects;
+import dev.hypera.chameleon.util.internal.ReflectionUtil;
+import java.lang.invoke.MethodHandle;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -39,7 +39,7 @@ import org.jetbrains.annotations.Nullable;
 final class PlayerReflection {
 
     private final @NotNull ComponentMapper componentMapper;
-    private @Nullable Method playerDisconnectMethod;
+    private @Nullable MethodHandle playerDisconnect;
 
     PlayerReflection(@NotNull ComponentMapper componentMapper) {
         this.componentMapper = componentMapper;
@@ -48,8 +48,8 @@ final class PlayerReflection {
     void load() {
         Preconditions.checkState(!isLoaded(), "PlayerReflection has already been loaded");
         try {
-            this.playerDisconnectMethod = Player.class.getMethod(
-                "disconnect", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
+            this.playerDisconnect = ReflectionUtil.findHandle(
+                Player.class, "disconnect", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
             );
         } catch (ReflectiveOperationException ex) {
             throw new ChameleonReflectiveException(ex);
@@ -57,19 +57,16 @@ final class PlayerReflection {
     }
 
     boolean isLoaded() {
-        return this.componentMapper.isLoaded() &&
-            this.playerDisconnectMethod != null;
+        return this.playerDisconnect != null;
     }
 
     void disconnect(@NotNull Player player, @NotNull Component component) {
-        Preconditions.checkState(isLoaded(), "PlayerReflection has not been loaded");
+        MethodHandle handle = this.playerDisconnect;
+        Preconditions.checkState(handle != null, "PlayerReflection has not been loaded");
         try {
-            Objects.requireNonNull(this.playerDisconnectMethod)
-                .invoke(player, this.componentMapper.map(component));
-        } catch (ReflectiveOperationException ex) {
-            throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.playerDisconnectMethod), player, ex
-            );
+            handle.invokeExact((Object) player, this.componentMapper.map(component));
+        } catch (Throwable ex) {
+            throw ChameleonReflectiveException.createMethodInvocationFailure("disconnect(Component)", player, ex);
         }
     }
 
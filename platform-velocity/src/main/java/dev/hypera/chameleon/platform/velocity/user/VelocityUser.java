@@ -174,6 +174,14 @@ public final class VelocityUser extends PlatformUser<Player> implements ProxyUse
         return this.audience;
     }
 
+    /**
+     * Invalidates the identity pointer snapshot for this user, used when the display name or
+     * locale of the player may have changed.
+     */
+    void invalidatePointers() {
+        this.audience.invalidatePointers();
+    }
+
     /**
      * Get the Velocity player for this user.
      *
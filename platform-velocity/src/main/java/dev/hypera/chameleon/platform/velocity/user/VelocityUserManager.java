@@ -28,6 +28,7 @@ import com.velocitypowered.api.event.PostOrder;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.connection.PostLoginEvent;
+import com.velocitypowered.api.event.player.PlayerSettingsChangedEvent;
 import com.velocitypowered.api.proxy.Player;
 import dev.hypera.chameleon.platform.user.PlatformUserManager;
 import dev.hypera.chameleon.platform.velocity.VelocityChameleon;
@@ -117,6 +118,12 @@ public final class VelocityUserManager extends PlatformUserManager<Player, Veloc
             removeUser(event.getPlayer().getUniqueId());
         }
 
+        @Subscribe(order = PostOrder.LAST)
+        public void onPlayerSettingsChangedEvent(@NotNull PlayerSettingsChangedEvent event) {
+            // The locale of the player may have changed.
+            getUserById(event.getPlayer().getUniqueId()).ifPresent(VelocityUser::invalidatePointers);
+        }
+
     }
 
 }
@@ -40,6 +40,7 @@ sequenceOf(
     "api",
     "bom",
     "annotations",
+    "benchmarks",
     "example",
     "platform-api",
     "platform-bukkit",